@@ -45,6 +45,7 @@ import classes.entity.Vector2;
 import classes.util.ObjectStream;
 import java.util.Scanner;
 import classes.entity.Titan;
+import classes.simulation.HeadlessRunner;
 
 /**
  * The entry-point file for the application
@@ -58,6 +59,12 @@ public class App {
 		Game game = Game.getInstance();
 
 		Console.benchmark("Creating game grid", game::initConfig);
+
+		if (HeadlessRunner.isRequested(args)) {
+			runHeadless(game, args);
+			return;
+		}
+
 		game.setFPS(1.0 / 10);
 
 		// Avg: ~0.001s
@@ -86,4 +93,23 @@ public class App {
 
 		game.start();
 	}
+
+	/**
+	 * Runs the simulation without any Swing setup, as fast as possible
+	 *
+	 * @see HeadlessRunner
+	 */
+	private static void runHeadless(Game game, String[] args) {
+		System.setProperty("java.awt.headless", "true");
+		Console.setDebugModeEnabled(false);
+
+		HeadlessRunner runner = HeadlessRunner.fromArgs(game.getSettings(), args);
+		game.createGameGrid();
+		game.initGameGrid();
+		game.initRunService();
+
+		runner.run(game);
+		Console.println(runner.report());
+		Console.close();
+	}
 }
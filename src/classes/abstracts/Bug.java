@@ -3,20 +3,50 @@ package classes.abstracts;
 import classes.entity.CellGrid.Cell;
 import classes.entity.Null;
 import classes.entity.Vector2;
+import classes.grid.EntityStore;
+import classes.simulation.TickBuffer;
 import classes.util.Console;
+import classes.util.Math2;
 
 public abstract class Bug<T> extends Entity<T> {
-	public int idNum;
+
+	/*
+	 * The MOVEMENT_SPEED at which a bug acts once every MOVEMENT_COOLDOWN ticks
+	 */
+	final public static int DEFAULT_SPEED = 5;
+
 	Cell cell;
+
+	/*
+	 * Hold the bug's state only while it is not attached to an EntityStore
+	 */
+	private int idNum;
 	private double rotation = 0;
+	private int movementCounter = 0;
+	private int starvationTimer = 0;
 
-	public int movementCounter = 0;
+	private EntityStore store;
+
+	/*
+	 * Managed by ActionScheduler
+	 */
+	private long nextActionTick = -1;
+	private int scheduleStamp = 0;
 
 	protected Bug() {
-		// properties
+		initProperties();
+	}
+
+	/**
+	 * Sets the properties every newborn bug starts with. Called once by the
+	 * constructor, and again by {@link #reset()} when a dead bug is recycled.
+	 * Subclasses with properties or state of their own override this and call
+	 * {@code super.initProperties()} first.
+	 */
+	protected void initProperties() {
 		setProperty(Property.POSITION, new Vector2());
 		setProperty(Property.ROTATION, 0);
-		setProperty(Property.MOVEMENT_SPEED, 5);
+		setProperty(Property.MOVEMENT_SPEED, DEFAULT_SPEED);
 		setProperty(Property.IS_EATABLE, false);
 		setProperty(Property.ASSIGNED_CELL, new Null());
 		setProperty(Property.MOVEMENT_COOLDOWN, 1);
@@ -24,18 +54,203 @@ public abstract class Bug<T> extends Entity<T> {
 	}
 
 	public boolean isEatable() {
-		return getProperty(Property.IS_EATABLE, Boolean.class);
+		return getBoolean(Property.IS_EATABLE);
 	}
 
 	public abstract void move();
 
 	public abstract void breed();
 
+	/**
+	 * Decides what this bug intends to do this tick and records it as claims
+	 * in {@code tick}. Must only read the grid. A bug that breeds calls
+	 * {@link TickBuffer#claimBirth}; its offspring is placed in the first
+	 * available cell next to the cell it ends the tick in, as if it had bred
+	 * right after moving.
+	 *
+	 * @param tick  the tick being planned
+	 * @param actor this bug's actor index in {@code tick}
+	 */
+	public abstract void plan(TickBuffer tick, int actor);
+
+	/**
+	 * Moves this bug into a cell it was granted by a {@code MOVE} or
+	 * {@code EAT} claim
+	 *
+	 * @param target the granted cell, which is already empty
+	 */
+	public void moveTo(Cell target) {
+		assignCell(target);
+	}
+
+	/**
+	 * Called once this bug has eaten the occupant of the cell it moved into
+	 */
+	public void onFed() {
+	}
+
+	/**
+	 * @return a new bug of the same species, for a granted birth
+	 */
+	public abstract Bug<?> createOffspring();
+
+	/**
+	 * Runs this bug's upkeep at the end of a tick, once every move and birth
+	 * is done
+	 *
+	 * @return true if the bug dies
+	 */
+	public boolean age() {
+		return false;
+	}
+
+	/**
+	 * <h4>This method should not be used outside of
+	 * {@code EntityRegistry}.</h4>
+	 *
+	 * Moves this bug's state into its row of {@code store}, after which the
+	 * row is the only copy that is read or written
+	 *
+	 * @param store the store to move into; the bug must already have an id
+	 */
+	public void attach(EntityStore store) {
+		int id = getEntityId();
+		store.open(id, getVariant());
+		store.setTag(id, this.idNum);
+		store.setRotation(id, this.rotation);
+		store.setMovementCounter(id, this.movementCounter);
+		store.setStarvationTimer(id, this.starvationTimer);
+		this.store = store;
+	}
+
+	/**
+	 * <h4>This method should not be used outside of
+	 * {@code EntityRegistry}.</h4>
+	 *
+	 * Copies this bug's state back out of its store row and frees the row
+	 */
+	public void detach() {
+		if (this.store == null)
+			return;
+
+		int id = getEntityId();
+		this.idNum = this.store.getTag(id);
+		this.rotation = this.store.getRotation(id);
+		this.movementCounter = this.store.getMovementCounter(id);
+		this.starvationTimer = this.store.getStarvationTimer(id);
+		this.store.close(id);
+		this.store = null;
+	}
+
+	/**
+	 * <h4>This method should not be used outside of {@code EntityPool}.</h4>
+	 *
+	 * Puts a dead bug back into the state of a newborn so it can be reused
+	 */
+	public void reset() {
+		if (this.store != null || hasCell())
+			throw new Error("Cannot reset a bug that is still on the grid");
+
+		this.idNum = Math2.randInt(1000);
+		this.rotation = 0;
+		this.movementCounter = 0;
+		this.starvationTimer = 0;
+		this.nextActionTick = -1;
+		initProperties();
+	}
+
+	/**
+	 * @return the tick this bug acts on next when scheduling is enabled, or
+	 *         {@code -1} if it was never scheduled
+	 */
+	public long getNextActionTick() {
+		return this.nextActionTick;
+	}
+
+	/**
+	 * @return how many ticks pass between two actions of this bug, from its
+	 *         {@code MOVEMENT_COOLDOWN} scaled by how far its
+	 *         {@code MOVEMENT_SPEED} is from the default speed
+	 */
+	public int getActionInterval() {
+		int cooldown = getInt(Property.MOVEMENT_COOLDOWN);
+		int speed = Math.max(1, getInt(Property.MOVEMENT_SPEED));
+		return (int) Math.max(1, Math.round((double) cooldown * DEFAULT_SPEED / speed));
+	}
+
+	/**
+	 * <h4>This method should not be used outside of
+	 * {@code ActionScheduler}.</h4>
+	 *
+	 * Sets the tick this bug acts on next, which invalidates every earlier
+	 * schedule entry of the bug
+	 *
+	 * @return the stamp identifying the new schedule entry
+	 */
+	public int schedule(long tick) {
+		this.nextActionTick = tick;
+		return ++this.scheduleStamp;
+	}
+
+	public int getScheduleStamp() {
+		return this.scheduleStamp;
+	}
+
+	public int getIdNum() {
+		return this.store == null
+				? this.idNum
+				: this.store.getTag(getEntityId());
+	}
+
+	public void setIdNum(int idNum) {
+		if (this.store == null)
+			this.idNum = idNum;
+		else
+			this.store.setTag(getEntityId(), idNum);
+	}
+
 	public double getRotation() {
-		return this.rotation;
+		return this.store == null
+				? this.rotation
+				: this.store.getRotation(getEntityId());
 	}
 
 	public void setRotation(double rotation) {
-		this.rotation = rotation;
+		if (this.store == null)
+			this.rotation = rotation;
+		else
+			this.store.setRotation(getEntityId(), rotation);
+	}
+
+	/**
+	 * @return how many moves this bug made since it last bred
+	 */
+	public int getMovementCounter() {
+		return this.store == null
+				? this.movementCounter
+				: this.store.getMovementCounter(getEntityId());
+	}
+
+	public void setMovementCounter(int movementCounter) {
+		if (this.store == null)
+			this.movementCounter = movementCounter;
+		else
+			this.store.setMovementCounter(getEntityId(), movementCounter);
+	}
+
+	/**
+	 * @return how many ticks this bug went without eating
+	 */
+	public int getStarvationTimer() {
+		return this.store == null
+				? this.starvationTimer
+				: this.store.getStarvationTimer(getEntityId());
+	}
+
+	public void setStarvationTimer(int starvationTimer) {
+		if (this.store == null)
+			this.starvationTimer = starvationTimer;
+		else
+			this.store.setStarvationTimer(getEntityId(), starvationTimer);
 	}
 }
@@ -0,0 +1,161 @@
+/*
+ * @written 10/18/2026
+ */
+package classes.abstracts;
+
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.Iterator;
+
+import classes.entity.CellGrid.Cell;
+import classes.entity.CellGrid.CellType;
+
+/**
+ * An abstract class that describes where a {@code CellGrid} keeps its
+ * {@code Cell} objects. A storage backend only maps integer cell units to
+ * {@code Cell} objects; all grid rules (bounds, cell types, occupancy) stay in
+ * {@code CellGrid}.
+ *
+ * <p>
+ * Backends are addressed with raw {@code (x, y)} components instead of
+ * {@code Unit2} objects so that lookups in the hot path do not need to
+ * allocate anything.
+ */
+public abstract class CellStorage implements Iterable<Cell> {
+
+	/**
+	 * Gets the {@code Cell} object stored at {@code (x, y)}
+	 *
+	 * @param x the x component of the cell unit
+	 * @param y the y component of the cell unit
+	 * @return the stored {@code Cell}, or {@code null} if none exists
+	 */
+	public abstract Cell get(int x, int y);
+
+	/**
+	 * Stores a {@code Cell} object at {@code (x, y)}, replacing any cell that
+	 * was previously stored there. Callers must check {@link #accepts(int, int)}
+	 * first.
+	 *
+	 * @param x    the x component of the cell unit
+	 * @param y    the y component of the cell unit
+	 * @param cell the {@code Cell} object to store
+	 */
+	public abstract void put(int x, int y, Cell cell);
+
+	/**
+	 * Removes the {@code Cell} object stored at {@code (x, y)}
+	 *
+	 * @param x the x component of the cell unit
+	 * @param y the y component of the cell unit
+	 * @return the removed {@code Cell}, or {@code null} if none existed
+	 */
+	public abstract Cell remove(int x, int y);
+
+	/**
+	 * Checks if this backend is able to store a cell at {@code (x, y)}. Bounded
+	 * backends only accept in-bounds units.
+	 *
+	 * @param x the x component of the cell unit
+	 * @param y the y component of the cell unit
+	 * @return true if a cell at {@code (x, y)} can be stored
+	 */
+	public abstract boolean accepts(int x, int y);
+
+	/**
+	 * @return the number of {@code Cell} objects currently stored
+	 */
+	public abstract int size();
+
+	/**
+	 * Removes every stored {@code Cell} object
+	 */
+	public abstract void clear();
+
+	/**
+	 * Iterates over every stored {@code Cell} object. The returned iterator
+	 * must support {@code remove()}.
+	 */
+	@Override
+	public abstract Iterator<Cell> iterator();
+
+	/**
+	 * Called by a {@code Cell} right after it goes from empty to occupied.
+	 * Backends that keep their own occupancy bookkeeping can override this.
+	 *
+	 * @param cell the cell that was just occupied
+	 */
+	public void onOccupied(Cell cell) {
+	}
+
+	/**
+	 * Called by a {@code Cell} right after its occupant was removed.
+	 *
+	 * @param cell the cell that was just vacated
+	 */
+	public void onVacated(Cell cell) {
+	}
+
+	/**
+	 * Called by a {@code Cell} when it is marked as part of a cell path, for
+	 * backends that keep cell flags outside of the {@code Cell} objects.
+	 *
+	 * @param cell the cell that was just marked
+	 */
+	public void onPathMarked(Cell cell) {
+	}
+
+	/**
+	 * Checks for a path mark recorded by {@link #onPathMarked(Cell)}
+	 *
+	 * @param x the x component of the cell unit
+	 * @param y the y component of the cell unit
+	 * @return true if this backend holds a path mark at {@code (x, y)}
+	 */
+	public boolean isPathMarked(int x, int y) {
+		return false;
+	}
+
+	/**
+	 * Frees every stored {@code Cell} that is eligible for collection and marks
+	 * it as {@code GARBAGE_COLLECTED}. Backends may override this when they can
+	 * do better than a full walk.
+	 *
+	 * @return the number of collected cells
+	 */
+	public int collect() {
+		Iterator<Cell> cellIterator = iterator();
+		int count = 0;
+
+		while (cellIterator.hasNext()) {
+			Cell cell = cellIterator.next();
+
+			if (cell.isCollectable()) {
+				count++;
+				cellIterator.remove();
+				cell.setType(CellType.GARBAGE_COLLECTED);
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * A live {@code Collection} view of the stored cells, kept so that callers
+	 * can keep using {@code grid.getGrid().values()}.
+	 *
+	 * @return a collection view backed by this storage
+	 */
+	public Collection<Cell> values() {
+		return new AbstractCollection<Cell>() {
+			@Override
+			public Iterator<Cell> iterator() {
+				return CellStorage.this.iterator();
+			}
+
+			@Override
+			public int size() {
+				return CellStorage.this.size();
+			}
+		};
+	}
+}
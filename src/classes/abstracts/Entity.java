@@ -19,6 +19,12 @@ import interfaces.Serializable;
  */
 public abstract class Entity<T> extends Properties {
 
+	/*
+	 * Id of this entity in its grid's EntityRegistry, or -1 while it is not
+	 * registered
+	 */
+	private int entityId = -1;
+
 	// Unused constructor for now
 	// public Entity() {
 
@@ -49,8 +55,9 @@ public abstract class Entity<T> extends Properties {
 			throw new NoCellFoundException();
 
 		if (withAggregation) {
+			// Moving vacates the old cell but keeps the entity registered
 			if (hasCell())
-				removeFromCell();
+				getCell().removeOccupant(false);
 
 			targetCell.setOccupant(this, false);
 		}
@@ -82,9 +89,11 @@ public abstract class Entity<T> extends Properties {
 		if (!hasCell())
 			throw new NoCellFoundException();
 
+		Cell cell = getCell();
 		if (withAggregation)
-			getCell().removeOccupant(false);
+			cell.removeOccupant(false);
 
+		cell.getGrid().getEntityRegistry().unregister(this);
 		setProperty(Property.ASSIGNED_CELL, new Null());
 	}
 
@@ -101,5 +110,25 @@ public abstract class Entity<T> extends Properties {
 		removeFromCell(true);
 	}
 
+	/**
+	 * @return the id of this entity in its grid's {@code EntityRegistry}, or
+	 *         {@code -1} if it is not on a grid
+	 */
+	public int getEntityId() {
+		return this.entityId;
+	}
+
+	/**
+	 * <h4>This method should not be used outside of
+	 * {@code EntityRegistry}.</h4>
+	 *
+	 * @param entityId the id assigned by the registry
+	 */
+	public void setEntityId(int entityId) {
+		this.entityId = entityId;
+	}
+
 	public abstract String getAvatar();
+
+	public abstract Variant getVariant();
 }
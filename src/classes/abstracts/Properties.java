@@ -1,26 +1,64 @@
 package classes.abstracts;
 
+import java.util.EnumMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 import classes.entity.Null;
 import interfaces.Serializable;
 
+/**
+ * Holds the {@code Property} values of an object in fixed slots.
+ *
+ * <p>
+ * Every {@code Property} has a {@link Property.Kind}. Boolean, int and double
+ * properties are kept unboxed in one {@code long} slot each, and every other
+ * property in an {@code Object} slot, so reading a property is a single array
+ * access. Hot code should use the primitive accessors such as
+ * {@link #getBoolean(Property)}; {@link #getProperty(Property, Class)} still
+ * works for every kind, but boxes primitive values.
+ */
 public abstract class Properties implements Serializable {
-	private Map<Property, Object> properties = new ConcurrentHashMap<>();
 
+	final private Object[] objects = new Object[Property.OBJECT_SLOTS];
+	final private long[] primitives = new long[Property.PRIMITIVE_SLOTS];
+
+	/*
+	 * One bit per Property ordinal, set once the property has a value
+	 */
+	private long present = 0;
+
+	/**
+	 * @return the value of {@code property}, boxed if it is primitive, or
+	 *         {@code null} if it is unset or set to a {@code Null}
+	 */
 	public Object getProperty(Property property) {
-		return properties.get(property);
+		if (!hasProperty(property))
+			return null;
+
+		switch (property.kind) {
+			case BOOLEAN:
+				return this.primitives[property.slot] != 0;
+			case INT:
+				return (int) this.primitives[property.slot];
+			case DOUBLE:
+				return Double.longBitsToDouble(this.primitives[property.slot]);
+			default:
+				return this.objects[property.slot];
+		}
 	}
 
+	/**
+	 * @return the value of {@code property} as a {@code classType}, or
+	 *         {@code null} if it is unset or set to a {@code Null}
+	 * @throws Error if the value is not a {@code classType}
+	 */
 	@SuppressWarnings("unchecked")
 	public <T> T getProperty(Property property, Class<T> classType) {
-		Object result = properties.get(property);
+		Object result = property.kind == Property.Kind.OBJECT
+				? this.objects[property.slot]
+				: getProperty(property);
 
-		if (result instanceof Null)
-			return null;
-
-		if (classType.isInstance(result))
+		if (result == null || classType.isInstance(result))
 			return (T) result;
 
 		throw new Error(String.format(
@@ -29,24 +67,149 @@ public abstract class Properties implements Serializable {
 				classType));
 	}
 
+	/**
+	 * Sets a property. Primitive properties take any {@code Number}, or a
+	 * {@code Boolean} for boolean properties, and are stored unboxed. A
+	 * {@code Null} clears the value of an object property.
+	 */
 	public Properties setProperty(Property key, Object value) {
-		properties.put(key, value);
+		switch (key.kind) {
+			case BOOLEAN:
+				return setBoolean(key, (Boolean) value);
+			case INT:
+				return setInt(key, ((Number) value).intValue());
+			case DOUBLE:
+				return setDouble(key, ((Number) value).doubleValue());
+			default:
+				this.objects[key.slot] = value instanceof Null
+						? null
+						: value;
+				this.present |= 1L << key.ordinal();
+				return this;
+		}
+	}
+
+	public boolean hasProperty(Property property) {
+		return (this.present & (1L << property.ordinal())) != 0;
+	}
+
+	public boolean getBoolean(Property property) {
+		checkKind(property, Property.Kind.BOOLEAN);
+		return this.primitives[property.slot] != 0;
+	}
+
+	public int getInt(Property property) {
+		checkKind(property, Property.Kind.INT);
+		return (int) this.primitives[property.slot];
+	}
+
+	public double getDouble(Property property) {
+		checkKind(property, Property.Kind.DOUBLE);
+		return Double.longBitsToDouble(this.primitives[property.slot]);
+	}
+
+	public Properties setBoolean(Property property, boolean value) {
+		checkKind(property, Property.Kind.BOOLEAN);
+		return setPrimitive(property, value ? 1 : 0);
+	}
+
+	public Properties setInt(Property property, int value) {
+		checkKind(property, Property.Kind.INT);
+		return setPrimitive(property, value);
+	}
+
+	public Properties setDouble(Property property, double value) {
+		checkKind(property, Property.Kind.DOUBLE);
+		return setPrimitive(property, Double.doubleToRawLongBits(value));
+	}
+
+	private Properties setPrimitive(Property property, long bits) {
+		this.primitives[property.slot] = bits;
+		this.present |= 1L << property.ordinal();
 		return this;
 	}
 
+	private static void checkKind(Property property, Property.Kind kind) {
+		if (property.kind != kind)
+			throw new Error(String.format(
+					"Property %s holds %s values, not %s",
+					property,
+					property.kind,
+					kind));
+	}
+
+	/**
+	 * @return a copy of every set property, with primitive values boxed
+	 */
 	public Map<Property, Object> getProperties() {
-		return this.properties;
+		Map<Property, Object> properties = new EnumMap<>(Property.class);
+		for (Property property : Property.values())
+			if (hasProperty(property))
+				properties.put(property, getProperty(property));
+
+		return properties;
 	}
 
 	public enum Property {
-		POSITION,
-		ROTATION,
-		MOVEMENT_SPEED,
-		IS_EATABLE,
-		ASSIGNED_CELL,
-		MOVEMENT_COOLDOWN,
-		NAME,
-		TYPE,
-		VARIANT,
+		POSITION(Kind.OBJECT),
+		ROTATION(Kind.DOUBLE),
+		MOVEMENT_SPEED(Kind.INT),
+		IS_EATABLE(Kind.BOOLEAN),
+		ASSIGNED_CELL(Kind.OBJECT),
+		MOVEMENT_COOLDOWN(Kind.INT),
+		NAME(Kind.OBJECT),
+		TYPE(Kind.OBJECT),
+		VARIANT(Kind.OBJECT);
+
+		/**
+		 * How a property's value is stored
+		 */
+		public enum Kind {
+			BOOLEAN,
+			INT,
+			DOUBLE,
+			OBJECT,
+		}
+
+		final static int OBJECT_SLOTS;
+		final static int PRIMITIVE_SLOTS;
+
+		static {
+			// Presence is tracked in a single long, one bit per property
+			if (values().length > Long.SIZE)
+				throw new Error("Properties cannot track more than " + Long.SIZE + " properties");
+
+			int objectSlots = 0;
+			int primitiveSlots = 0;
+
+			for (Property property : values())
+				property.slot = property.kind == Kind.OBJECT
+						? objectSlots++
+						: primitiveSlots++;
+
+			OBJECT_SLOTS = objectSlots;
+			PRIMITIVE_SLOTS = primitiveSlots;
+		}
+
+		final private Kind kind;
+		private int slot;
+
+		private Property(Kind kind) {
+			this.kind = kind;
+		}
+
+		public Kind getKind() {
+			return this.kind;
+		}
+	}
+
+	/**
+	 * Every kind of occupant that can live on the grid. Used wherever occupants
+	 * are grouped by species without comparing {@code VARIANT} strings.
+	 */
+	public enum Variant {
+		ANT,
+		DOODLEBUG,
+		TITAN,
 	}
 }
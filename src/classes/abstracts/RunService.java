@@ -5,20 +5,29 @@ package classes.abstracts;
 
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.Iterator;
+import java.util.HashSet;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
 
 import classes.entity.Game;
 import classes.settings.GameSettings.SimulationSettings;
 import classes.settings.GameSettings.SimulationType;
 import classes.util.Console;
 import classes.util.Console.DebugPriority;
+import classes.util.FixedTimestep;
 import classes.util.Time;
+import classes.util.TimerWheel;
 import interfaces.TaskCallback;
 
 /**
  * An abstract class that provides a {@code pulse} method for updating frame
  * processes in a tight loop. A {@code step} method must be implemented in the
  * subclass which handles what action should occur on that frame.
+ *
+ * <p>
+ * A frame is either pulsed by the game loop along with every other frame, or
+ * runs on a thread of its own after {@link #start(long)}, so that a slow frame
+ * never delays the others.
  */
 public abstract class RunService {
 
@@ -26,16 +35,23 @@ public abstract class RunService {
 
 	private long FPS;
 	private long lastPulseTick;
+	private long nextPulseTick = Long.MIN_VALUE;
 	private long deltaTime = 0;
 	private long timeBeforeStep;
 	private long timeAfterStep;
 
+	/*
+	 * The most steps a frame thread runs back to back when it falls behind
+	 */
+	final private static int MAX_CATCH_UP_STEPS = 5;
+
 	private SimulationSettings settings;
-	private FrameState state = FrameState.RUNNING;
-	private ArrayList<Task> preSimulationTasks = new ArrayList<>();
-	private ArrayList<Task> postSimulationTasks = new ArrayList<>();
+	private volatile FrameState state = FrameState.RUNNING;
+	private Thread thread;
+	private TaskSchedule preSimulationTasks = new TaskSchedule();
+	private TaskSchedule postSimulationTasks = new TaskSchedule();
 
-	public static FrameState masterState = FrameState.RUNNING;
+	public static volatile FrameState masterState = FrameState.RUNNING;
 
 	public enum FrameState {
 		RUNNING,
@@ -60,29 +76,42 @@ public abstract class RunService {
 	 * @return the time it took
 	 */
 	public long pulse() {
+		return pulse(game.getStepTime());
+	}
+
+	/**
+	 * Unreliably fire the {@code step} method at a given time on the step
+	 * clock of whichever loop drives this frame
+	 *
+	 * @param pulseTime the time of the current step in nanoseconds
+	 * @return the time it took, or {@code -1} if the step was not due
+	 * @see #pulse()
+	 */
+	public long pulse(long pulseTime) {
 		long preSimulationTime = Time.tick();
-		long dt = preSimulationTime - this.lastPulseTick;
+		long dt = pulseTime - this.lastPulseTick;
 
-		/**
-		 * Until we find a better solution to account for unpredictable sleeping
-		 * thread durations dipping below the simulation FPS, adding a
-		 * millisecond buffer when checking the last frame simulation works for
-		 * now.
-		 * 
-		 * If the delta time (time between last frame simulation step) is less than
-		 * the frame FPS, then return -1 (skip this request to run another simulation)
+		/*
+		 * Pulses are due every FPS nanoseconds of game step time. Step times
+		 * advance in exact timesteps, so they never land slightly short of a
+		 * due time because of how long the game loop happened to wait. A frame
+		 * that falls behind, such as after a pause, starts over from now.
 		 */
-		if (dt + 1_000_000 < this.FPS)
+		if (pulseTime < this.nextPulseTick)
 			return -1;
 		else if (this.lastPulseTick < 0)
 			dt = 0;
 
+		this.nextPulseTick += this.FPS;
+		if (this.nextPulseTick <= pulseTime)
+			this.nextPulseTick = pulseTime + this.FPS;
+
 		Console.debugPrint(String.format(
 				"$text-%s [%s FRAME] $text-reset ",
 				settings.getDebugInfo().getPrimaryColor(),
 				settings.getProcessName().toUpperCase()));
 
-		this.lastPulseTick = preSimulationTime;
+		this.lastPulseTick = pulseTime;
 		this.deltaTime = dt;
 		this.timeBeforeStep = preSimulationTime;
 
@@ -135,6 +164,80 @@ public abstract class RunService {
 
 	public void resume() {
 		this.state = FrameState.RUNNING;
+		wake();
+	}
+
+	/**
+	 * Runs this frame on a thread of its own until the game terminates. The
+	 * thread steps at this frame's FPS, or every {@code defaultStepNanos} if
+	 * its FPS is {@code 0}, on a fixed-timestep clock of its own. It parks
+	 * while this frame or every frame is suspended.
+	 *
+	 * @param defaultStepNanos the game's timestep in nanoseconds
+	 * @throws Error if this frame was already started
+	 */
+	public void start(long defaultStepNanos) {
+		if (this.thread != null)
+			throw new Error("start() can only be called once per frame");
+
+		long stepNanos = this.FPS > 0
+				? this.FPS
+				: defaultStepNanos;
+
+		this.thread = new Thread(() -> run(stepNanos), settings.getProcessName() + " frame");
+		this.thread.start();
+	}
+
+	private void run(long stepNanos) {
+		FixedTimestep timestep = new FixedTimestep(stepNanos, MAX_CATCH_UP_STEPS);
+		long stepTime = -1;
+
+		while (game.isThreadRunning()) {
+			// Sleep until resume(), resumeAll() or terminate() wakes this
+			// thread, and do not catch up on the time spent suspended
+			if (isSuspended() || isAllSuspended()) {
+				LockSupport.park(this);
+				timestep.reset();
+				stepTime = -1;
+				continue;
+			}
+
+			int steps = timestep.advance();
+			for (int step = 0; step < steps && game.isThreadRunning(); step++) {
+				stepTime = stepTime < 0 || stepNanos == 0
+						? Time.tick()
+						: stepTime + stepNanos;
+
+				pulse(stepTime);
+			}
+
+			timestep.waitForNextStep();
+		}
+	}
+
+	/**
+	 * Wakes this frame's thread if it is parked, so that it notices a change
+	 * of state
+	 */
+	public void wake() {
+		if (this.thread != null)
+			LockSupport.unpark(this.thread);
+	}
+
+	/**
+	 * Waits for this frame's thread to finish after the game terminates
+	 */
+	public void join() throws InterruptedException {
+		if (this.thread != null)
+			this.thread.join();
+	}
+
+	/**
+	 * @return the thread this frame runs on, or {@code null} if it is pulsed
+	 *         by the game loop
+	 */
+	public Thread getThread() {
+		return this.thread;
 	}
 
 	public boolean isSuspended() {
@@ -145,15 +248,23 @@ public abstract class RunService {
 		return this.state == FrameState.RUNNING;
 	}
 
+	/**
+	 * Schedules a task to run before every step. Safe to call from any
+	 * thread; the task starts on this frame's next pulse.
+	 */
 	public Task onPreSimulation(TaskCallback taskCaller) {
 		Task task = new Task(taskCaller);
-		this.preSimulationTasks.add(task);
+		this.preSimulationTasks.submit(task);
 		return task;
 	}
 
+	/**
+	 * Schedules a task to run after every step. Safe to call from any
+	 * thread; the task starts on this frame's next pulse.
+	 */
 	public Task onPostSimulation(TaskCallback taskCaller) {
 		Task task = new Task(taskCaller);
-		this.postSimulationTasks.add(task);
+		this.postSimulationTasks.submit(task);
 		return task;
 	}
 
@@ -161,8 +272,13 @@ public abstract class RunService {
 		masterState = FrameState.SUSPENDED;
 	}
 
+	/**
+	 * Resumes every frame and wakes the game loop and the frame threads,
+	 * which park while everything is suspended
+	 */
 	public static void resumeAll() {
 		masterState = FrameState.RUNNING;
+		Game.getInstance().wake();
 	}
 
 	public static boolean isAllSuspended() {
@@ -179,63 +295,213 @@ public abstract class RunService {
 	 * <p>
 	 * This method should ideally be called inside a simulation frame's {@code step}
 	 * method, but it may be used outside of this context as well.
+	 *
+	 * <p>
+	 * Only awake tasks are visited. A suspended task sleeps in the schedule's
+	 * timer wheel until its suspension ends or it times out, and costs nothing
+	 * until then.
+	 *
+	 * <p>
+	 * Tasks submitted, resumed or killed from any thread since the last call
+	 * are taken in from the schedule's inbox first, so the lists themselves
+	 * are only ever touched by the thread that steps them.
 	 */
-	public void stepTasks(ArrayList<Task> tasks) {
-		if (tasks.size() == 0)
+	public void stepTasks(TaskSchedule tasks) {
+		long currentTime = Time.tick();
+		ArrayList<Task> active = tasks.active;
+
+		tasks.drainInbox();
+
+		// Bring back the sleeping tasks that came due or were woken early
+		int due = tasks.sleeping.advance(currentTime);
+		for (int i = 0; i < due; i++) {
+			Task task = tasks.sleeping.getDue(i);
+
+			if (task.sleepingIn == tasks && task.sleepStamp == tasks.sleeping.getDueStamp(i)) {
+				task.sleepingIn = null;
+				active.add(task);
+			}
+		}
+		active.addAll(tasks.woken);
+		tasks.woken.clear();
+
+		if (active.size() == 0)
 			return;
 
-		Iterator<Task> taskIterator = tasks.iterator();
-		long currentTime = Time.tick();
+		// Tasks submitted by a running task wait in the inbox until the next pulse
+		int kept = 0;
+		for (int i = 0; i < active.size(); i++) {
+			Task task = active.get(i);
+			if (stepTask(task, tasks, currentTime))
+				active.set(kept++, task);
+		}
+
+		active.subList(kept, active.size()).clear();
+	}
 
-		while (taskIterator.hasNext()) {
-			Task task = taskIterator.next();
+	/**
+	 * Runs a single awake task if it is due
+	 *
+	 * @return true if the task stays awake, or false if it finished or went to
+	 *         sleep
+	 */
+	private boolean stepTask(Task task, TaskSchedule tasks, long currentTime) {
+		if (task.started() == null)
+			task.setStart(currentTime);
 
-			if (task.started() == null)
-				task.setStart(currentTime);
+		// task timeout check
+		task.setElapsedLifetime(currentTime - task.started());
+		if (task.timeout() != -1 && task.elapsedLifetime() > task.timeout()) {
+			Console.debugPrint(
+					DebugPriority.HIGH,
+					String.format("%s timed out", task));
 
-			// task timeout check
-			task.setElapsedLifetime(currentTime - task.started());
-			if (task.timeout() != -1 && task.elapsedLifetime() > task.timeout()) {
-				Console.debugPrint(
-						DebugPriority.HIGH,
-						String.format("%s timed out", task));
+			return false;
+		}
 
-				taskIterator.remove();
-			}
+		// task is currently suspended, so it sleeps until it resumes or times out
+		if (task.isSuspended()) {
+			if (task.suspendedUntil() == -1)
+				task.setSuspendedUntil(currentTime + task.suspended());
 
-			// task is currently suspended
-			if (task.isSuspended()) {
-				if (task.suspendedUntil() == -1)
-					task.setSuspendedUntil(currentTime + task.suspended());
-				if (currentTime < task.suspendedUntil())
-					continue;
-				else
-					task.resume();
-			}
+			if (currentTime < task.suspendedUntil()) {
+				long wakeTime = task.timeout() == -1
+						? task.suspendedUntil()
+						: Math.min(task.suspendedUntil(), task.started() + task.timeout() + 1);
 
-			// task was killed
-			if (task.isDead()) {
-				Console.debugPrint(
-						DebugPriority.HIGH,
-						String.format("%s was manually terminated", task));
+				tasks.sleep(task, wakeTime);
 
-				taskIterator.remove();
-				continue;
+				// Another thread may have resumed or killed the task before it
+				// was marked as sleeping, in which case it never asked for a wake
+				if (!task.isSuspended() || task.isDead())
+					tasks.wake(task);
+
+				return false;
 			}
+			task.resume();
+		}
 
-			// task exceeded runtime duration
-			if (task.duration() != -1 && task.elapsedRuntime() > task.duration()) {
-				Console.debugPrint(
-						DebugPriority.HIGH,
-						String.format("%s fulfilled its runtime duration"));
+		// task was killed
+		if (task.isDead()) {
+			Console.debugPrint(
+					DebugPriority.HIGH,
+					String.format("%s was manually terminated", task));
 
-				task.setState(TaskState.END);
-				taskIterator.remove();
-				continue;
+			return false;
+		}
+
+		// task exceeded runtime duration
+		if (task.duration() != -1 && task.elapsedRuntime() > task.duration()) {
+			Console.debugPrint(
+					DebugPriority.HIGH,
+					String.format("%s fulfilled its runtime duration", task));
+
+			task.setState(TaskState.END);
+			return false;
+		}
+
+		task.setDeltaTime(this.deltaTime);
+		task.execute();
+		return true;
+	}
+
+	/**
+	 * The tasks of one stage of a frame. Awake tasks are kept in a list that
+	 * is walked every pulse, and sleeping tasks in a {@link TimerWheel} that
+	 * only hands them back once they are due.
+	 *
+	 * <p>
+	 * Other threads never touch either of them. New tasks, and sleeping tasks
+	 * that were resumed or killed, go into a lock-free inbox instead, which
+	 * the frame thread drains at the start of every pulse.
+	 */
+	public static class TaskSchedule {
+
+		final private ArrayList<Task> active = new ArrayList<>();
+		final private ArrayList<Task> woken = new ArrayList<>();
+		final private TimerWheel<Task> sleeping = new TimerWheel<>();
+		final private HashSet<Task> paused = new HashSet<>();
+		final private ConcurrentLinkedQueue<Task> inbox = new ConcurrentLinkedQueue<>();
+
+		/**
+		 * Hands a new task to the schedule from any thread
+		 *
+		 * @throws Error if the task was already submitted
+		 */
+		public void submit(Task task) {
+			if (task.schedule != null)
+				throw new Error(String.format("%s was already submitted", task));
+
+			task.schedule = this;
+			this.inbox.offer(task);
+		}
+
+		/**
+		 * Asks the frame thread to wake a sleeping task on its next pulse
+		 */
+		private void requestWake(Task task) {
+			this.inbox.offer(task);
+		}
+
+		/**
+		 * Takes in every task submitted or woken since the last pulse. Only
+		 * the frame thread may call this.
+		 */
+		private void drainInbox() {
+			Task task;
+			while ((task = this.inbox.poll()) != null) {
+				if (task.admitted) {
+					wake(task);
+				} else {
+					task.admitted = true;
+					this.active.add(task);
+				}
 			}
+		}
+
+		/**
+		 * Puts a task to sleep until {@code wakeTime}. A paused task, which has
+		 * no wake time at all, is kept aside until it is woken instead, since
+		 * its entry would otherwise never come due in the timer wheel.
+		 */
+		private void sleep(Task task, long wakeTime) {
+			task.sleepingIn = this;
+
+			if (wakeTime == Long.MAX_VALUE)
+				this.paused.add(task);
+			else
+				this.sleeping.schedule(task, wakeTime, ++task.sleepStamp);
+		}
+
+		/**
+		 * Moves a sleeping task back to the awake tasks before it is due. Its
+		 * entry in the timer wheel is left behind and dropped once it is due.
+		 */
+		private void wake(Task task) {
+			if (task.sleepingIn != this)
+				return;
+
+			task.sleepingIn = null;
+			if (!this.paused.remove(task))
+				task.sleepStamp++;
+
+			this.woken.add(task);
+		}
+
+		/**
+		 * @return the number of awake tasks, not counting those still in the
+		 *         inbox
+		 */
+		public int getActiveCount() {
+			return this.active.size() + this.woken.size();
+		}
 
-			task.setDeltaTime(this.deltaTime);
-			task.execute();
+		/**
+		 * @return the number of timer wheel entries, including those of tasks
+		 *         that were woken early, plus the number of paused tasks
+		 */
+		public int getSleepingCount() {
+			return this.sleeping.size() + this.paused.size();
 		}
 	}
 
@@ -249,16 +515,25 @@ public abstract class RunService {
 		final private String name;
 		final private HashMap<String, Object> env = new HashMap<>();
 		private TaskCallback taskCaller;
-		private TaskState state;
+		private volatile TaskState state;
 		private Long started;
 
 		private long elapsedRuntime = 0;
 		private long elapsedLifetime = 0;
 		private long deltaTime = 0;
 		private long timeout = -1;
-		private long suspended = -1;
+		private volatile long suspended = -1;
 		private long duration = -1;
-		private long suspendedUntil = -1;
+		private volatile long suspendedUntil = -1;
+
+		/*
+		 * The schedule this task was submitted to, whether that schedule has
+		 * taken it in yet, and where it sleeps with the stamp of its entry
+		 */
+		private TaskSchedule schedule;
+		private boolean admitted = false;
+		private volatile TaskSchedule sleepingIn;
+		private int sleepStamp = 0;
 
 		// TODO: Add documentation
 		public Task(String name) {
@@ -349,6 +624,10 @@ public abstract class RunService {
 			this.state = TaskState.RUNNING;
 			this.suspended = -1;
 			this.suspendedUntil = -1;
+
+			TaskSchedule sleepingIn = this.sleepingIn;
+			if (sleepingIn != null)
+				sleepingIn.requestWake(this);
 		}
 
 		public void pause() {
@@ -395,6 +674,11 @@ public abstract class RunService {
 
 		public void kill() {
 			this.state = TaskState.END;
+
+			// Wake a sleeping task so that it is dropped on the next pulse
+			TaskSchedule sleepingIn = this.sleepingIn;
+			if (sleepingIn != null)
+				sleepingIn.requestWake(this);
 		}
 
 		public boolean isRunning() {
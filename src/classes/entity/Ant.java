@@ -1,10 +1,12 @@
 package classes.entity;
 
-import java.util.ArrayList;
-
 import classes.abstracts.Bug;
 import classes.util.Console;
+import classes.util.Math2;
 import classes.entity.CellGrid.Cell;
+import classes.settings.GameSettings.Neighborhood;
+import classes.simulation.TickBuffer;
+import classes.simulation.TickBuffer.Action;
 
 public class Ant extends Bug<Ant> {
 
@@ -12,7 +14,12 @@ public class Ant extends Bug<Ant> {
 	private final String avatar = "src/assets/ant2.jpg";
 
 	public Ant() {
-		idNum = (int) (Math.random() * 1000);
+		setIdNum(Math2.randInt(1000));
+	}
+
+	@Override
+	protected void initProperties() {
+		super.initProperties();
 
 		// properties
 		setProperty(Property.IS_EATABLE, true);
@@ -24,43 +31,72 @@ public class Ant extends Bug<Ant> {
 		return avatar;
 	}
 
+	@Override
+	public Variant getVariant() {
+		return Variant.ANT;
+	}
+
 	@Override
 	public void move() {
 		CellGrid grid = game.getGameGrid();
-		ArrayList<Cell> adjCells = grid.getCellsAdjacentTo(getCell());
-		Cell randCell = grid.getRandomAvailableCellFrom(adjCells);
+		Cell randCell = grid.getRandomAvailableCellAdjacentTo(
+				getCell(),
+				grid.getNeighborhood(getVariant()));
 		if (randCell != null) {
 			double angle = (randCell.getUnit2Center().subtract(getCell().getUnit2Center())).screenAngle();
 			setRotation(angle);
 			assignCell(randCell);
 		}
 
-		movementCounter++;
-		if (movementCounter == 3) {
-			movementCounter = 0;
+		setMovementCounter(getMovementCounter() + 1);
+		if (getMovementCounter() == 3) {
+			setMovementCounter(0);
 			this.breed();
 		}
 	}
 
 	@Override
-	public void breed() {
-		ArrayList<Cell> adjCells = game
-				.getGameGrid()
-				.getCellsAdjacentTo(getCell());
-
-		for (Cell adjCell : adjCells) {
-			if (adjCell.isInBounds() && adjCell.isEmpty()) {
-				adjCell.setOccupant(new Ant());
-				break;
-			}
+	public void plan(TickBuffer tick, int actor) {
+		CellGrid grid = game.getGameGrid();
+		Neighborhood neighborhood = grid.getNeighborhood(getVariant());
+		int target = grid.getRandomAvailableIndexAdjacentTo(getCell(), neighborhood);
+		tick.claim(actor, Action.MOVE, target);
+
+		setMovementCounter(getMovementCounter() + 1);
+		if (getMovementCounter() == 3) {
+			setMovementCounter(0);
+			tick.claimBirth(actor);
 		}
 	}
 
+	@Override
+	public void moveTo(Cell target) {
+		double angle = (target.getUnit2Center().subtract(getCell().getUnit2Center())).screenAngle();
+		setRotation(angle);
+		assignCell(target);
+	}
+
+	@Override
+	public Ant createOffspring() {
+		return new Ant();
+	}
+
+	@Override
+	public void breed() {
+		CellGrid grid = game.getGameGrid();
+		Cell adjCell = grid.getAvailableCellAdjacentTo(
+				getCell(),
+				grid.getNeighborhood(getVariant()));
+
+		if (adjCell != null)
+			adjCell.setOccupant(new Ant());
+	}
+
 	@Override
 	public String toString() {
 		return String.format(Console.withConsoleColors(
 				"$text-green Ant$text-reset #%s"),
-				idNum);
+				getIdNum());
 	}
 
 	@Override
@@ -4,34 +4,53 @@
  */
 package classes.entity;
 
+import classes.abstracts.Bug;
+import classes.abstracts.CellStorage;
 import classes.abstracts.Entity;
 import classes.abstracts.Properties.Property;
+import classes.abstracts.Properties.Variant;
 import classes.entity.CellGrid.Cell;
 import classes.entity.CellGrid.CellType;
+import classes.grid.ChunkedCellStorage;
+import classes.grid.DenseCellStorage;
+import classes.grid.EntityRegistry;
+import classes.grid.EntityStore;
+import classes.grid.FreeCellIndex;
+import classes.grid.HashCellStorage;
+import classes.grid.NeighborTable;
+import classes.grid.OffHeapCellStorage;
+import classes.grid.OccupancyBitset;
+import classes.grid.PackedCellStorage;
+import classes.settings.GameSettings;
+import classes.settings.GameSettings.BoundaryMode;
+import classes.settings.GameSettings.GridStorageType;
+import classes.settings.GameSettings.Neighborhood;
 import classes.util.Console;
 import classes.util.Console.DebugPriority;
 import exceptions.CellIsOccupiedException;
 import exceptions.NoOccupantFoundException;
 import exceptions.NoCellFoundException;
 import exceptions.OccupantHasCellException;
+import interfaces.CellVisitor;
 import interfaces.Serializable;
 import classes.util.Math2;
 import classes.util.ObjectStream;
+import classes.util.RandomService;
 
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 import java.util.NoSuchElementException;
-import java.util.concurrent.ConcurrentHashMap;
 
 import javax.swing.JLabel;
 
 /**
- * The primary API for interacting with the virtual game grid. Implements a
- * HashMap for mapping all cell coordinates to their corresponding cell objects
- * instead of using a 2D array for scalability and ease-of-access.
+ * The primary API for interacting with the virtual game grid. Cells are kept in
+ * a {@code CellStorage} backend chosen by {@code GridStorageType}: a HashMap
+ * keyed by cell unit, a flat row-major array for bounded grids, or a
+ * primitive hash table keyed by packed cell units for sparse grids, or lazily
+ * allocated tiles for huge grids.
  */
 @SuppressWarnings("unused")
 public class CellGrid {
@@ -41,13 +60,58 @@ public class CellGrid {
 	final private Unit2 size;
 
 	/*
-	 * Thread-safe hashmap is required here, since multiple threads may access the
-	 * cell grid and/or make changes to it
+	 * Backend that maps cell units to cell objects. The HASH backend is
+	 * thread-safe; the DENSE backend is a plain array that never resizes, so
+	 * concurrent readers will at worst see a slightly stale slot
 	 */
-	final private Map<String, Cell> virtualGrid = new ConcurrentHashMap<>();
-	// final private List<Entity<?>> virtualEntities =
-	// Collections.synchronizedList(new ArrayList<>());
-	final private ArrayList<Entity<?>> virtualEntites = new ArrayList<>();
+	final private CellStorage virtualGrid;
+
+	/*
+	 * One bit per in-bounds cell for each variant, kept in sync by
+	 * Cell.setOccupant and Cell.removeOccupant
+	 */
+	final private OccupancyBitset occupancy;
+
+	/*
+	 * Every in-bounds cell index that is currently unoccupied, for O(1)
+	 * random sampling of available cells
+	 */
+	final private FreeCellIndex freeCells;
+
+	/*
+	 * Random picks tried against the occupancy bits before falling back to a
+	 * ranked sweep, on grids without a free-cell index
+	 */
+	final private static int REJECTION_ATTEMPTS = 32;
+
+	/*
+	 * Precomputed neighbour indices of every in-bounds cell, or null if the
+	 * grid was created with neighbour tables disabled
+	 */
+	final private NeighborTable neighborTable;
+	final private Neighborhood[] neighborhoods = new Neighborhood[Variant.values().length];
+
+	/*
+	 * Precomputed results of stepping each in-bounds x or y component by -1, 0
+	 * or 1, stored at [component * 3 + direction + 1]. Toroidal grids wrap here,
+	 * so the neighbour methods never branch on the boundary mode.
+	 */
+	final private BoundaryMode boundaryMode;
+	final private int[] shiftsX;
+	final private int[] shiftsY;
+
+	/*
+	 * The one cell handed out for every out-of-bounds lookup. Never stored.
+	 */
+	final private Cell outOfBoundsCell;
+
+	/*
+	 * The live entities on the grid. Entities are registered when they first
+	 * occupy a cell and unregistered when they are removed from their cell
+	 * for good, but not when they move. With the entity store enabled, the
+	 * registry also tracks the cell index of every bug in the store.
+	 */
+	final private EntityRegistry entityRegistry;
 
 	public enum CellGridAxis {
 		X,
@@ -78,8 +142,146 @@ public class CellGrid {
 		OCCUPIED,
 	}
 
+	/**
+	 * Creates a grid from the grid-related fields of a {@code GameSettings}
+	 * object (size, storage backend, neighbour tables and neighbourhoods).
+	 *
+	 * @param settings the settings to build the grid from
+	 */
+	public CellGrid(GameSettings settings) {
+		this.size = settings.getGridSize();
+		this.virtualGrid = createStorage(settings.getGridStorageType());
+		this.occupancy = new OccupancyBitset(getArea());
+
+		// Off-heap grids are too large for the per-cell int tables
+		boolean compact = settings.getGridStorageType() == GridStorageType.OFF_HEAP;
+		this.freeCells = compact
+				? null
+				: new FreeCellIndex(getArea());
+		this.outOfBoundsCell = new OutOfBoundsCell();
+		this.boundaryMode = settings.getBoundaryMode();
+
+		boolean wrap = this.boundaryMode == BoundaryMode.TOROIDAL;
+		this.shiftsX = createShifts(this.size.getX(), wrap);
+		this.shiftsY = createShifts(this.size.getY(), wrap);
+		this.neighborTable = settings.isNeighborTablesEnabled() && !compact
+				? new NeighborTable(this.size.getX(), this.size.getY(), wrap)
+				: null;
+
+		for (Variant variant : Variant.values())
+			this.neighborhoods[variant.ordinal()] = settings.getNeighborhood(variant);
+
+		this.entityRegistry = new EntityRegistry(settings.isEntityStoreEnabled()
+				? new EntityStore()
+				: null);
+	}
+
+	/**
+	 * Creates a grid of a given size with default settings for everything else
+	 *
+	 * @param size the size of the grid in cell units
+	 */
 	public CellGrid(Unit2 size) {
-		this.size = size;
+		this(defaultSettings(size));
+	}
+
+	private static GameSettings defaultSettings(Unit2 size) {
+		GameSettings settings = new GameSettings();
+		settings.setGridSize(size);
+		return settings;
+	}
+
+	/**
+	 * Creates the {@code CellStorage} backend for a given storage type
+	 *
+	 * @param storageType the {@code GridStorageType} to create
+	 * @return a new, empty {@code CellStorage}
+	 */
+	private CellStorage createStorage(GridStorageType storageType) {
+		switch (storageType) {
+			case DENSE:
+				return new DenseCellStorage(this.size.getX(), this.size.getY());
+			case PACKED:
+				return new PackedCellStorage();
+			case CHUNKED:
+				return new ChunkedCellStorage(this.size.getX(), this.size.getY());
+			case OFF_HEAP:
+				return new OffHeapCellStorage(this.size.getX(), this.size.getY());
+			case HASH:
+			default:
+				return new HashCellStorage();
+		}
+	}
+
+	/**
+	 * Converts a cell unit into its row-major cell index, which is used by the
+	 * occupancy layer and the other per-cell indices of the grid.
+	 *
+	 * @param x the x component of the cell unit
+	 * @param y the y component of the cell unit
+	 * @return {@code (y - 1) * width + (x - 1)}, or {@code -1} if the unit is
+	 *         out of bounds
+	 */
+	public int indexOf(int x, int y) {
+		int width = this.size.getX();
+
+		if (x < 1 || x > width || y < 1 || y > this.size.getY())
+			return -1;
+
+		return (y - 1) * width + (x - 1);
+	}
+
+	/**
+	 * Gets the {@code Cell} object at a given row-major cell index
+	 *
+	 * @param index the cell index, as returned by {@link #indexOf(int, int)}
+	 * @return the in-bounds {@code Cell} at that index
+	 */
+	public Cell getCellAt(int index) {
+		int width = this.size.getX();
+		return getCell(index % width + 1, index / width + 1);
+	}
+
+	/**
+	 * Gets the centre point of an in-bounds cell by its index, without looking
+	 * up its {@code Cell} object
+	 *
+	 * @param index the row-major cell index
+	 * @return the same point as {@code getCellAt(index).getUnit2Center()}
+	 */
+	public Vector2 getUnit2CenterAt(int index) {
+		int width = this.size.getX();
+		return new Vector2(
+				index % width + 0.5,
+				index / width + 0.5);
+	}
+
+	/**
+	 * @return the {@code BoundaryMode} the grid was created with
+	 */
+	public BoundaryMode getBoundaryMode() {
+		return this.boundaryMode;
+	}
+
+	/**
+	 * Gets the neighbourhood that a given species moves and breeds in
+	 *
+	 * @param variant the species
+	 * @return the {@code Neighborhood} configured for {@code variant}
+	 */
+	public Neighborhood getNeighborhood(Variant variant) {
+		return this.neighborhoods[variant.ordinal()];
+	}
+
+	/**
+	 * @return the number of in-bounds cells on the grid
+	 */
+	public int getArea() {
+		long area = (long) this.size.getX() * this.size.getY();
+		if (area > Integer.MAX_VALUE)
+			throw new Error("Grid size is too large to be indexed");
+
+		return (int) area;
 	}
 
 	/**
@@ -231,9 +433,9 @@ public class CellGrid {
 	 * created immediately and stored within the {@code virtualGrid}.
 	 *
 	 * <p>
-	 * If the requested cell is out of bounds, a cell object will still be
-	 * created but will contain the private field enum {@code cellType} which
-	 * will be set to {@code OUT_OF_BOUNDS}
+	 * If the requested cell is out of bounds, the grid's shared
+	 * {@code OUT_OF_BOUNDS} sentinel is returned instead. It is never stored, so
+	 * border probes do not fill the virtual grid with phantom cells.
 	 *
 	 * @param unit  the cell label represented by its location on the grid
 	 * @param cache whether or not the cell will be added the the game grid (true by
@@ -251,38 +453,91 @@ public class CellGrid {
 	 * @see #getCell(Vector2, Vector2)
 	 */
 	public Cell getCell(Unit2 unit, boolean cache) {
-		String cellStream = unit.serialize();
-		Cell cell = this.virtualGrid.get(cellStream);
+		int x = unit.getX();
+		int y = unit.getY();
+
+		if (indexOf(x, y) == -1)
+			return getOutOfBoundsCell(x, y);
+
+		Cell cell = this.virtualGrid.get(x, y);
 		if (cell != null)
 			return cell;
 
-		if (unit.getX() == 0 || unit.getY() == 0) {
-			throw new NoCellFoundException();
-		}
+		return createCell(unit, x, y, cache);
+	}
+
+	// TODO: Add documentation
+	public Cell getCell(Unit2 unit) {
+		return getCell(unit, true);
+	}
+
+	/**
+	 * Gets a {@code Cell} object by its raw unit components. Does not allocate
+	 * anything when the cell already exists in storage.
+	 *
+	 * @param x the x component of the cell unit
+	 * @param y the y component of the cell unit
+	 * @return {@code Cell} object at {@code (x, y)}
+	 *
+	 * @see #getCell(Unit2, boolean)
+	 */
+	public Cell getCell(int x, int y) {
+		if (indexOf(x, y) == -1)
+			return getOutOfBoundsCell(x, y);
+
+		Cell cell = this.virtualGrid.get(x, y);
+		if (cell != null)
+			return cell;
+
+		return createCell(new Unit2(x, y), x, y, true);
+	}
 
-		cell = new Cell(unit);
+	/**
+	 * Creates a new in-bounds {@code Cell} object for a unit that does not
+	 * exist in storage yet, caching it if requested.
+	 */
+	private Cell createCell(Unit2 unit, int x, int y, boolean cache) {
+		Cell cell = new Cell(unit);
 		if (cache)
-			this.virtualGrid.put(cellStream, cell);
-		if (outOfBounds(unit))
-			cell.setType(CellType.OUT_OF_BOUNDS);
+			this.virtualGrid.put(x, y, cell);
 
 		// Console.println("$text-yellow Added$text-reset " + cell);
 		return cell;
 	}
 
-	// TODO: Add documentation
-	public Cell getCell(Unit2 unit) {
-		return getCell(unit, true);
+	/**
+	 * Answers an out-of-bounds lookup with the shared sentinel. Units with a
+	 * {@code 0} component still do not exist at all.
+	 */
+	private Cell getOutOfBoundsCell(int x, int y) {
+		if (x == 0 || y == 0)
+			throw new NoCellFoundException();
+
+		return this.outOfBoundsCell;
+	}
+
+	/**
+	 * Gets the sentinel {@code Cell} that this grid returns for every
+	 * out-of-bounds lookup. The sentinel is immutable: it can never take an
+	 * occupant, and its unit does not match the unit that was looked up.
+	 *
+	 * @return the shared {@code OUT_OF_BOUNDS} cell of this grid
+	 */
+	public Cell getOutOfBoundsCell() {
+		return this.outOfBoundsCell;
 	}
 
 	// TODO: Add documentation
 	public Cell getCellIfExists(Unit2 unit) {
-		return this.virtualGrid.get(unit.serialize());
+		if (outOfBounds(unit))
+			return null;
+
+		return this.virtualGrid.get(unit.getX(), unit.getY());
 	}
 
 	// TODO: Add documentation
 	public boolean cellExists(Unit2 unit) {
-		return this.virtualGrid.get(unit.serialize()) != null;
+		return getCellIfExists(unit) != null;
 	}
 
 	/**
@@ -424,14 +679,13 @@ public class CellGrid {
 	 * @see #collectCell(Unit2)
 	 */
 	public Cell collectCell(Unit2 unit) {
-		String cellStream = unit.serialize();
-		Cell cell = this.virtualGrid.get(cellStream);
+		Cell cell = getCellIfExists(unit);
 
 		if (cell == null)
 			throw new NoCellFoundException();
 
 		if (cell.isCollectable()) {
-			this.virtualGrid.remove(cellStream);
+			this.virtualGrid.remove(unit.getX(), unit.getY());
 			cell.setType(CellType.GARBAGE_COLLECTED);
 		}
 
@@ -463,20 +717,7 @@ public class CellGrid {
 	 * @see #collectCells()
 	 */
 	public void collectCells() {
-		Iterator<Map.Entry<String, Cell>> gridIterator = this.virtualGrid.entrySet().iterator();
-		int count = 0;
-
-		while (gridIterator.hasNext()) {
-			Map.Entry<String, Cell> cellEntry = gridIterator.next();
-			Cell cell = cellEntry.getValue();
-
-			if (cell.isCollectable()) {
-				count++;
-				gridIterator.remove();
-				cell.setType(CellType.GARBAGE_COLLECTED);
-				// Console.println("$text-cyan Collected:$text-reset " + cell);
-			}
-		}
+		int count = this.virtualGrid.collect();
 
 		Console.debugPrint(
 				DebugPriority.MEDIUM,
@@ -492,7 +733,7 @@ public class CellGrid {
 	 * @see #getCellTopOf(Unit2)
 	 */
 	public Cell getCellTopOf(Unit2 unit) {
-		return getCell(unit.add(new Unit2(0, unit.getY() == -1 ? 2 : 1)));
+		return getCell(unit.getX(), shiftY(unit.getY(), 1));
 	}
 
 	/**
@@ -504,7 +745,7 @@ public class CellGrid {
 	 * @see #getCellBottomOf(Unit2)
 	 */
 	public Cell getCellBottomOf(Unit2 unit) {
-		return getCell(unit.add(new Unit2(0, unit.getY() == 1 ? -2 : -1)));
+		return getCell(unit.getX(), shiftY(unit.getY(), -1));
 	}
 
 	/**
@@ -516,7 +757,7 @@ public class CellGrid {
 	 * @see #getCellLeftOf(Unit2)
 	 */
 	public Cell getCellLeftOf(Unit2 unit) {
-		return getCell(unit.add(new Unit2(unit.getX() == 1 ? -2 : -1, 0)));
+		return getCell(shiftX(unit.getX(), -1), unit.getY());
 	}
 
 	/**
@@ -528,7 +769,59 @@ public class CellGrid {
 	 * @see #getCellRightOf(Unit2)
 	 */
 	public Cell getCellRightOf(Unit2 unit) {
-		return getCell(unit.add(new Unit2(unit.getX() == -1 ? 2 : 1, 0)));
+		return getCell(shiftX(unit.getX(), 1), unit.getY());
+	}
+
+	/**
+	 * Builds the shift table of one grid axis. Bounded axes step off the edge
+	 * (and over component {@code 0}) like {@link #step(int, int)}; toroidal
+	 * axes wrap around to the opposite edge.
+	 */
+	private static int[] createShifts(int length, boolean wrap) {
+		int[] shifts = new int[(length + 1) * 3];
+
+		for (int component = 1; component <= length; component++)
+			for (int direction = -1; direction <= 1; direction++)
+				shifts[component * 3 + direction + 1] = wrap
+						? Math.floorMod(component - 1 + direction, length) + 1
+						: step(component, direction);
+
+		return shifts;
+	}
+
+	/**
+	 * Moves an x component one cell in a given direction, wrapping around if
+	 * the grid is toroidal. Components that are already out of bounds fall
+	 * back to {@link #step(int, int)}.
+	 */
+	private int shiftX(int x, int direction) {
+		return x >= 1 && x <= this.size.getX()
+				? this.shiftsX[x * 3 + direction + 1]
+				: step(x, direction);
+	}
+
+	/**
+	 * @see #shiftX(int, int)
+	 */
+	private int shiftY(int y, int direction) {
+		return y >= 1 && y <= this.size.getY()
+				? this.shiftsY[y * 3 + direction + 1]
+				: step(y, direction);
+	}
+
+	/**
+	 * Moves a unit component one cell in a given direction. There is no cell
+	 * at component {@code 0}, so stepping onto it skips over to the next one.
+	 *
+	 * @param component the x or y component of a cell unit
+	 * @param direction {@code 1}, {@code -1}, or {@code 0} to stay in place
+	 * @return the stepped component
+	 */
+	private static int step(int component, int direction) {
+		int next = component + direction;
+		return next == 0
+				? next + direction
+				: next;
 	}
 
 	/**
@@ -637,6 +930,267 @@ public class CellGrid {
 		return cells;
 	}
 
+	/**
+	 * Resolves one neighbour slot of a cell to a row-major index. In-bounds
+	 * cells read the precomputed {@code NeighborTable} when the grid has one;
+	 * everything else falls back to stepping the unit components.
+	 *
+	 * @param cell the cell to find the neighbour of
+	 * @param slot the neighbour slot, as laid out by {@code NeighborTable}
+	 * @return the neighbour's index, or {@code -1} if it is out of bounds
+	 */
+	private int neighborIndexOf(Cell cell, int slot) {
+		int index = cell.getIndex();
+		if (index != -1 && this.neighborTable != null)
+			return this.neighborTable.get(index, slot);
+
+		Unit2 unit = cell.getUnit2();
+		return indexOf(
+				shiftX(unit.getX(), NeighborTable.OFFSET_X[slot]),
+				shiftY(unit.getY(), NeighborTable.OFFSET_Y[slot]));
+	}
+
+	/**
+	 * Allocation-free version of {@link #getCellsAdjacentTo(Cell)}. Fills a
+	 * caller-owned buffer with the cells in a given neighbourhood of
+	 * {@code cell}, including out-of-bounds ones. The first four are always
+	 * top, bottom, left, right.
+	 *
+	 * @param cell         the cell to find the adjacent cells to
+	 * @param neighborhood the neighbourhood to read
+	 * @param buffer       a buffer with room for the whole neighbourhood
+	 * @return the number of cells written to {@code buffer}
+	 */
+	public int getCellsAdjacentTo(Cell cell, Neighborhood neighborhood, Cell[] buffer) {
+		int x = cell.getUnit2().getX();
+		int y = cell.getUnit2().getY();
+		int slots = NeighborTable.sizeOf(neighborhood);
+
+		for (int slot = 0; slot < slots; slot++)
+			buffer[slot] = getCell(
+					shiftX(x, NeighborTable.OFFSET_X[slot]),
+					shiftY(y, NeighborTable.OFFSET_Y[slot]));
+
+		return slots;
+	}
+
+	/**
+	 * @see #getCellsAdjacentTo(Cell, Neighborhood, Cell[])
+	 */
+	public int getCellsAdjacentTo(Cell cell, Cell[] buffer) {
+		return getCellsAdjacentTo(cell, Neighborhood.VON_NEUMANN, buffer);
+	}
+
+	/**
+	 * Fills a caller-owned buffer with the row-major indices of the in-bounds
+	 * cells in a given neighbourhood of {@code cell}. No {@code Cell} objects
+	 * are looked up or created.
+	 *
+	 * @param cell         the cell to find the adjacent indices of
+	 * @param neighborhood the neighbourhood to read
+	 * @param buffer       a buffer with room for the whole neighbourhood
+	 * @return the number of indices written to {@code buffer}
+	 */
+	public int getIndicesAdjacentTo(Cell cell, Neighborhood neighborhood, int[] buffer) {
+		int slots = NeighborTable.sizeOf(neighborhood);
+		int count = 0;
+
+		for (int slot = 0; slot < slots; slot++) {
+			int index = neighborIndexOf(cell, slot);
+
+			if (index != NeighborTable.NO_NEIGHBOR)
+				buffer[count++] = index;
+		}
+		return count;
+	}
+
+	/**
+	 * @see #getIndicesAdjacentTo(Cell, Neighborhood, int[])
+	 */
+	public int getIndicesAdjacentTo(Cell cell, int[] buffer) {
+		return getIndicesAdjacentTo(cell, Neighborhood.VON_NEUMANN, buffer);
+	}
+
+	/**
+	 * Calls {@code visitor} once for each cell in a given neighbourhood of
+	 * {@code cell}, including out-of-bounds ones.
+	 *
+	 * @param cell         the cell to visit the adjacent cells of
+	 * @param neighborhood the neighbourhood to visit
+	 * @param visitor      the callback to run for each adjacent cell
+	 */
+	public void forEachCellAdjacentTo(Cell cell, Neighborhood neighborhood, CellVisitor visitor) {
+		int x = cell.getUnit2().getX();
+		int y = cell.getUnit2().getY();
+		int slots = NeighborTable.sizeOf(neighborhood);
+
+		for (int slot = 0; slot < slots; slot++)
+			visitor.visit(getCell(
+					shiftX(x, NeighborTable.OFFSET_X[slot]),
+					shiftY(y, NeighborTable.OFFSET_Y[slot])));
+	}
+
+	/**
+	 * @see #forEachCellAdjacentTo(Cell, Neighborhood, CellVisitor)
+	 */
+	public void forEachCellAdjacentTo(Cell cell, CellVisitor visitor) {
+		forEachCellAdjacentTo(cell, Neighborhood.VON_NEUMANN, visitor);
+	}
+
+	/**
+	 * Picks a uniform random available (non-occupied and in-bounds) cell in a
+	 * given neighbourhood of {@code cell} in a single pass over the occupancy
+	 * bits, using reservoir sampling. Only the picked cell is looked up.
+	 *
+	 * @param cell         the cell to search around
+	 * @param neighborhood the neighbourhood to search
+	 * @return a random available adjacent cell, or {@code null} if there is
+	 *         none
+	 */
+	public Cell getRandomAvailableCellAdjacentTo(Cell cell, Neighborhood neighborhood) {
+		return getRandomCellAdjacentTo(cell, neighborhood, false);
+	}
+
+	/**
+	 * @see #getRandomAvailableCellAdjacentTo(Cell, Neighborhood)
+	 */
+	public Cell getRandomAvailableCellAdjacentTo(Cell cell) {
+		return getRandomAvailableCellAdjacentTo(cell, Neighborhood.VON_NEUMANN);
+	}
+
+	/**
+	 * Picks a uniform random occupied cell in a given neighbourhood of
+	 * {@code cell} in a single pass over the occupancy bits, using reservoir
+	 * sampling.
+	 *
+	 * @param cell         the cell to search around
+	 * @param neighborhood the neighbourhood to search
+	 * @return a random occupied adjacent cell, or {@code null} if there is none
+	 */
+	public Cell getRandomOccupiedCellAdjacentTo(Cell cell, Neighborhood neighborhood) {
+		return getRandomCellAdjacentTo(cell, neighborhood, true);
+	}
+
+	/**
+	 * @see #getRandomOccupiedCellAdjacentTo(Cell, Neighborhood)
+	 */
+	public Cell getRandomOccupiedCellAdjacentTo(Cell cell) {
+		return getRandomOccupiedCellAdjacentTo(cell, Neighborhood.VON_NEUMANN);
+	}
+
+	private Cell getRandomCellAdjacentTo(Cell cell, Neighborhood neighborhood, boolean occupied) {
+		int picked = getRandomIndexAdjacentTo(cell, neighborhood, occupied);
+		return picked == -1
+				? null
+				: getCellAt(picked);
+	}
+
+	/**
+	 * Index-only version of {@link #getRandomAvailableCellAdjacentTo(Cell,
+	 * Neighborhood)}. Only reads the grid, so it is safe to call while a tick
+	 * is being planned.
+	 *
+	 * @return the index of a random available adjacent cell, or {@code -1}
+	 */
+	public int getRandomAvailableIndexAdjacentTo(Cell cell, Neighborhood neighborhood) {
+		return getRandomIndexAdjacentTo(cell, neighborhood, false);
+	}
+
+	/**
+	 * Index-only version of {@link #getRandomOccupiedCellAdjacentTo(Cell,
+	 * Neighborhood)}. Only reads the grid.
+	 *
+	 * @return the index of a random occupied adjacent cell, or {@code -1}
+	 */
+	public int getRandomOccupiedIndexAdjacentTo(Cell cell, Neighborhood neighborhood) {
+		return getRandomIndexAdjacentTo(cell, neighborhood, true);
+	}
+
+	private int getRandomIndexAdjacentTo(Cell cell, Neighborhood neighborhood, boolean occupied) {
+		int slots = NeighborTable.sizeOf(neighborhood);
+		int picked = -1;
+		int matches = 0;
+
+		for (int slot = 0; slot < slots; slot++) {
+			int index = neighborIndexOf(cell, slot);
+
+			if (index == NeighborTable.NO_NEIGHBOR || this.occupancy.isOccupied(index) != occupied)
+				continue;
+
+			if (Math2.randInt(++matches) == 0)
+				picked = index;
+		}
+		return picked;
+	}
+
+	/**
+	 * Index-only version of {@link #getAvailableCellAdjacentTo(Cell,
+	 * Neighborhood)} that can skip one index, e.g. a cell already claimed by
+	 * the same entity. Only reads the grid.
+	 *
+	 * @param exclude an index to skip, or {@code -1}
+	 * @return the index of the first available adjacent cell, or {@code -1}
+	 */
+	public int getAvailableIndexAdjacentTo(Cell cell, Neighborhood neighborhood, int exclude) {
+		int slots = NeighborTable.sizeOf(neighborhood);
+
+		for (int slot = 0; slot < slots; slot++) {
+			int index = neighborIndexOf(cell, slot);
+
+			if (index != NeighborTable.NO_NEIGHBOR && index != exclude && !this.occupancy.isOccupied(index))
+				return index;
+		}
+		return -1;
+	}
+
+	/**
+	 * Gets the occupant of an in-bounds cell by its index without creating
+	 * its {@code Cell} object. Occupied cells are always stored, so this only
+	 * reads the grid.
+	 *
+	 * @param index the row-major cell index
+	 * @return the occupant, or {@code null} if the cell is empty
+	 */
+	public Entity<?> getOccupantAt(int index) {
+		if (!this.occupancy.isOccupied(index))
+			return null;
+
+		int width = this.size.getX();
+		Cell cell = this.virtualGrid.get(index % width + 1, index / width + 1);
+		return cell == null
+				? null
+				: cell.getOccupant();
+	}
+
+	/**
+	 * Gets the first available (non-occupied and in-bounds) cell in a given
+	 * neighbourhood of {@code cell}, checked in neighbour table order (top,
+	 * bottom, left, right, then the diagonals).
+	 *
+	 * @param cell         the cell to search around
+	 * @param neighborhood the neighbourhood to search
+	 * @return the first available adjacent cell, or {@code null} if there is
+	 *         none
+	 */
+	public Cell getAvailableCellAdjacentTo(Cell cell, Neighborhood neighborhood) {
+		int slots = NeighborTable.sizeOf(neighborhood);
+
+		for (int slot = 0; slot < slots; slot++) {
+			int index = neighborIndexOf(cell, slot);
+
+			if (index != NeighborTable.NO_NEIGHBOR && !this.occupancy.isOccupied(index))
+				return getCellAt(index);
+		}
+		return null;
+	}
+
+	/**
+	 * @see #getAvailableCellAdjacentTo(Cell, Neighborhood)
+	 */
+	public Cell getAvailableCellAdjacentTo(Cell cell) {
+		return getAvailableCellAdjacentTo(cell, Neighborhood.VON_NEUMANN);
+	}
+
 	/**
 	 * Get the cells adjacent to a given {@code Cell} object.
 	 * 
@@ -757,7 +1311,7 @@ public class CellGrid {
 			throw new Error("Random selection size exceeds limit");
 
 		ArrayList<Cell> randCells = new ArrayList<>(cells);
-		Collections.shuffle(randCells);
+		RandomService.shuffle(randCells, amount);
 		ArrayList<Cell> subList = new ArrayList<>(
 				randCells.subList(0, amount));
 
@@ -842,14 +1396,82 @@ public class CellGrid {
 
 	/**
 	 * Get a random available (non-occupied and in-bounds) {@code Cell} object on
-	 * the virtual
-	 * grid.
+	 * the virtual grid. Picked from the grid's free-cell index in O(1), so the
+	 * cell does not need to exist beforehand. Grids without a free-cell index
+	 * use rejection sampling on the occupancy bits instead.
 	 * 
-	 * @return a random available {@code Cell} object
+	 * @return a random available {@code Cell} object, or {@code null} if every
+	 *         cell is occupied
 	 * @see #getRandomAvailableCell()
 	 */
 	public Cell getRandomAvailableCell() {
-		return getRandomCellFrom(getAvailableCells());
+		int index = this.freeCells != null
+				? this.freeCells.random()
+				: sampleVacantIndex(getAvailableCellCount());
+
+		return index == -1
+				? null
+				: getCellAt(index);
+	}
+
+	/**
+	 * Picks a uniform random empty cell index from the occupancy bits. Tries a
+	 * few random indices first, which almost always succeeds unless the grid is
+	 * nearly full, then falls back to selecting a random rank.
+	 *
+	 * @param available the number of empty cells on the grid
+	 * @return a random empty index, or {@code -1} if there is none
+	 */
+	private int sampleVacantIndex(int available) {
+		if (available == 0)
+			return -1;
+
+		for (int attempt = 0; attempt < REJECTION_ATTEMPTS; attempt++) {
+			int index = Math2.randInt(getArea());
+			if (!this.occupancy.isOccupied(index))
+				return index;
+		}
+		return this.occupancy.selectVacant(Math2.randInt(available));
+	}
+
+	/**
+	 * Samples distinct empty cell indices from the occupancy bits, for grids
+	 * without a free-cell index. Small samples are drawn by rejection; samples
+	 * of more than half of the empty cells gather every empty index first and
+	 * shuffle a prefix of them.
+	 */
+	private int[] sampleVacantIndices(int amount) {
+		int available = getAvailableCellCount();
+		if (amount > available)
+			throw new Error("Random selection size exceeds limit");
+
+		int[] indices = new int[amount];
+
+		if (amount > available / 2) {
+			int[] vacant = new int[available];
+			for (int i = 0, index = 0; i < available; i++, index++) {
+				while (this.occupancy.isOccupied(index))
+					index++;
+				vacant[i] = index;
+			}
+
+			for (int i = 0; i < amount; i++) {
+				int j = i + Math2.randInt(available - i);
+				int swap = vacant[j];
+				vacant[j] = vacant[i];
+				vacant[i] = swap;
+				indices[i] = swap;
+			}
+			return indices;
+		}
+
+		HashSet<Integer> picked = new HashSet<>(amount * 2);
+		for (int i = 0; i < amount;) {
+			int index = sampleVacantIndex(available);
+			if (picked.add(index))
+				indices[i++] = index;
+		}
+		return indices;
 	}
 
 	/**
@@ -877,9 +1499,37 @@ public class CellGrid {
 		return getRandomCellsFrom(getCells(), amount);
 	}
 
-	// TODO: Add documentation
+	/**
+	 * Get an {@code ArrayList<Cell>} of distinct random available (non-occupied
+	 * and in-bounds) cells, quantified by the {@code amount} parameter. Sampled
+	 * from the grid's free-cell index in O(amount), so the cells do not need to
+	 * exist beforehand.
+	 *
+	 * @param amount the quantity of random available cells to include
+	 * @return the random {@code ArrayList<Cell>} of available cells
+	 * @throws Error if {@code amount} exceeds the number of available cells
+	 * @see #getRandomAvailableCells(int)
+	 */
 	public ArrayList<Cell> getRandomAvailableCells(int amount) {
-		return getRandomCellsFrom(getAvailableCells(), amount);
+		int[] indices = this.freeCells != null
+				? this.freeCells.sample(amount, new int[amount])
+				: sampleVacantIndices(amount);
+		ArrayList<Cell> cells = new ArrayList<>(amount);
+
+		for (int index : indices)
+			cells.add(getCellAt(index));
+
+		return cells;
+	}
+
+	/**
+	 * @return the number of available (non-occupied and in-bounds) cells on the
+	 *         grid, whether or not their {@code Cell} objects exist
+	 */
+	public int getAvailableCellCount() {
+		return this.freeCells != null
+				? this.freeCells.size()
+				: getArea() - this.occupancy.count();
 	}
 
 	/**
@@ -902,10 +1552,39 @@ public class CellGrid {
 		return virtualGrid.size();
 	}
 
+	/**
+	 * Get the occupancy bitsets of the grid
+	 *
+	 * @return the {@code OccupancyBitset} kept in sync with every cell's
+	 *         occupant
+	 */
+	public OccupancyBitset getOccupancy() {
+		return this.occupancy;
+	}
+
+	/**
+	 * Counts the occupants of a given variant on the grid, without visiting any
+	 * {@code Cell} objects.
+	 *
+	 * @param variant the variant to count
+	 * @return the number of in-bounds cells occupied by {@code variant}
+	 */
+	public int getPopulation(Variant variant) {
+		return this.occupancy.count(variant);
+	}
+
+	/**
+	 * @return the number of occupied in-bounds cells on the grid
+	 */
+	public int getPopulation() {
+		return this.occupancy.count();
+	}
+
 	/*
-	 * Return the virtual grid's object reference
+	 * Return the virtual grid's storage backend. {@code getGrid().values()}
+	 * iterates every stored cell, regardless of backend.
 	 */
-	public Map<String, Cell> getGrid() {
+	public CellStorage getGrid() {
 		return this.virtualGrid;
 	}
 
@@ -1023,7 +1702,9 @@ public class CellGrid {
 			for (int col = 1; col <= colLength; col++) {
 				Cell cell = getCellIfExists(new Unit2(col, row));
 				if (cell == null || cell.isEmpty()) {
-					if (cell != null && cell.isPathCell())
+					if (cell != null
+							? cell.isPathCell()
+							: virtualGrid.isPathMarked(col, row))
 						out.append(pathCell);
 					else
 						out.append(emptyCell);
@@ -1044,6 +1725,10 @@ public class CellGrid {
 	// all cells
 	public void clearCells() {
 		virtualGrid.clear();
+		occupancy.clear();
+		if (freeCells != null)
+			freeCells.reset();
+		entityRegistry.clear();
 	}
 
 	// TODO: Add documentation
@@ -1061,37 +1746,53 @@ public class CellGrid {
 		ArrayList<Object> data = ObjectStream.deserialize(serializedString);
 		for (Object cellData : data) {
 			Cell cell = (Cell) cellData;
-			this.virtualGrid.put(cell.getUnit2().serialize(), cell);
+			Unit2 unit = cell.getUnit2();
+
+			if (isInBounds(unit))
+				this.virtualGrid.put(unit.getX(), unit.getY(), cell);
 		}
 	}
 
-	// TODO: HEAVILY rework later - this method should not exist the way that it
-	// does
+	/**
+	 * Finds the cell of the live entity nearest to the occupant of
+	 * {@code fromCell}, skipping entities of the same variant. Only visits the
+	 * registered entities of the other variants.
+	 *
+	 * @param fromCell the occupied cell to search from
+	 * @return the cell of the nearest entity, or {@code null} if there is none
+	 */
 	public Cell getCellWithNearestOccupant(Cell fromCell) {
+		Variant fromVariant = fromCell.getOccupant().getVariant();
+		Vector2 from = fromCell.getUnit2Center();
 		Entity<?> nearestOccupant = null;
 		double nearestDist = Double.POSITIVE_INFINITY;
 
-		for (Entity<?> entity : virtualEntites) {
-			if (entity == fromCell.getOccupant() || entity.getProperty(Property.VARIANT, String.class)
-					.equals(fromCell.getOccupant().getProperty(Property.VARIANT, String.class)))
+		for (Variant variant : Variant.values()) {
+			if (variant == fromVariant)
 				continue;
-			if (nearestOccupant == null)
-				nearestOccupant = entity;
 
-			double dist = entity.getProperty(Property.POSITION, Vector2.class)
-					.subtract(fromCell.getUnit2Center())
-					.magnitude();
+			for (Entity<?> entity : this.entityRegistry.getEntities(variant)) {
+				double dist = entity.getProperty(Property.POSITION, Vector2.class)
+						.subtract(from)
+						.magnitude();
 
-			if (dist < nearestDist) {
-				nearestDist = dist;
-				nearestOccupant = entity;
+				if (dist < nearestDist) {
+					nearestDist = dist;
+					nearestOccupant = entity;
+				}
 			}
 		}
 
-		return nearestOccupant.getCell();
-		// synchronized (virtualEntities) {
+		return nearestOccupant == null
+				? null
+				: nearestOccupant.getCell();
+	}
 
-		// }
+	/**
+	 * @return the registry of live entities on this grid
+	 */
+	public EntityRegistry getEntityRegistry() {
+		return this.entityRegistry;
 	}
 
 	/**
@@ -1254,6 +1955,7 @@ public class CellGrid {
 	public class Cell implements Serializable {
 
 		final private Unit2 unit;
+		final private int index;
 		final private Vector2 unit2Center;
 		private CellType cellType;
 		private CellVacancy cellVacancy;
@@ -1288,6 +1990,7 @@ public class CellGrid {
 		 */
 		public Cell(Unit2 unit) {
 			this.unit = unit;
+			this.index = indexOf(unit.getX(), unit.getY());
 			this.unit2Center = new Vector2(
 					unit.getX() - unit.signedUnit().getX() * 0.5,
 					unit.getY() - unit.signedUnit().getY() * 0.5);
@@ -1318,11 +2021,12 @@ public class CellGrid {
 		}
 
 		public boolean isPathCell() {
-			return this.isPathCell;
+			return this.isPathCell || virtualGrid.isPathMarked(unit.getX(), unit.getY());
 		}
 
 		public void setPathCell() {
 			this.isPathCell = true;
+			virtualGrid.onPathMarked(this);
 		}
 
 		public void setImgRef(JLabel img) {
@@ -1381,10 +2085,22 @@ public class CellGrid {
 				cellOccupant.assignCell(this, false);
 			}
 
+			boolean wasEmpty = isEmpty();
 			this.cellOccupant = cellOccupant;
 			setVacancy(CellVacancy.OCCUPIED);
-			// TODO: may need to change later for thread-safe reasons
-			virtualEntites.add(cellOccupant);
+
+			if (this.index != -1) {
+				occupancy.set(this.index, cellOccupant.getVariant());
+				if (freeCells != null)
+					freeCells.remove(this.index);
+			}
+
+			if (wasEmpty)
+				virtualGrid.onOccupied(this);
+
+			int id = entityRegistry.register(cellOccupant);
+			if (entityRegistry.getStore() != null && cellOccupant instanceof Bug)
+				entityRegistry.getStore().setCell(id, this.index);
 			cellOccupant.setProperty(Property.POSITION, this.getUnit2Center());
 		}
 
@@ -1410,7 +2126,7 @@ public class CellGrid {
 		 */
 		public boolean isOccupantEatable() {
 			Entity<?> _cellOccupant = getOccupant();
-			return _cellOccupant.getProperty(Property.IS_EATABLE, Boolean.class);
+			return _cellOccupant.getBoolean(Property.IS_EATABLE);
 		}
 
 		/**
@@ -1469,6 +2185,14 @@ public class CellGrid {
 			this.cellOccupant = null;
 			setVacancy(CellVacancy.EMPTY);
 
+			if (this.index != -1) {
+				occupancy.clear(this.index);
+				if (freeCells != null)
+					freeCells.add(this.index);
+			}
+
+			virtualGrid.onVacated(this);
+
 			if (withAggregation)
 				occupant.removeFromCell(false);
 
@@ -1511,6 +2235,23 @@ public class CellGrid {
 			return this.unit;
 		}
 
+		/**
+		 * @return the {@code CellGrid} this cell belongs to
+		 */
+		public CellGrid getGrid() {
+			return CellGrid.this;
+		}
+
+		/**
+		 * Get the row-major index of this cell on its grid
+		 *
+		 * @return the cell index, or {@code -1} if the cell is out of bounds
+		 * @see classes.entity.CellGrid#indexOf(int, int)
+		 */
+		public int getIndex() {
+			return this.index;
+		}
+
 		/*
 		 * TODO: Implement toScreenPosition() method
 		 */
@@ -1555,12 +2296,16 @@ public class CellGrid {
 		}
 
 		/**
-		 * Checks if this cell is empty (has no occupants).
+		 * Checks if this cell is empty (has no occupants). In-bounds cells
+		 * answer this with a single bit test on the grid's occupancy layer.
 		 * 
 		 * @return true if the cell has no occupant
 		 */
 		public boolean isEmpty() {
-			return this.cellVacancy == CellVacancy.EMPTY;
+			if (this.index == -1)
+				return this.cellVacancy == CellVacancy.EMPTY;
+
+			return !occupancy.isOccupied(this.index);
 		}
 
 		/**
@@ -1569,10 +2314,14 @@ public class CellGrid {
 		 * @return true if the cell has an occupant
 		 */
 		public boolean hasOccupant() {
-			return this.cellVacancy == CellVacancy.OCCUPIED;
+			return !isEmpty();
 		}
 
-		// TODO: Add documentation
+		/**
+		 * Checks if this cell can take a new occupant (in-bounds and empty)
+		 *
+		 * @return true if the cell is available
+		 */
 		public boolean isAvailable() {
 			return isEmpty() && isInBounds();
 		}
@@ -1703,4 +2452,38 @@ public class CellGrid {
 		}
 	}
 
+	/**
+	 * The shared, immutable {@code OUT_OF_BOUNDS} cell of a grid. Mutators
+	 * that could only ever describe a real cell are ignored, and taking an
+	 * occupant is refused outright.
+	 */
+	private class OutOfBoundsCell extends Cell {
+
+		public OutOfBoundsCell() {
+			super(new Unit2(size.getX() + 1, size.getY() + 1));
+			super.setType(CellType.OUT_OF_BOUNDS);
+		}
+
+		@Override
+		public void setOccupant(Entity<?> cellOccupant, boolean withAggregation) {
+			throw new Error("Cannot assign an occupant to an out-of-bounds cell");
+		}
+
+		@Override
+		public void setPathCell() {
+		}
+
+		@Override
+		public void setImgRef(JLabel img) {
+		}
+
+		@Override
+		public void setType(CellType cellType) {
+		}
+
+		@Override
+		public void setVacancy(CellVacancy cellVacancy) {
+		}
+	}
+
 }
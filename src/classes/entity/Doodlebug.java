@@ -1,20 +1,26 @@
 package classes.entity;
 
-import java.util.ArrayList;
-
 import classes.abstracts.Bug;
+import classes.abstracts.Entity;
 import classes.util.Console;
+import classes.util.Math2;
 import classes.entity.CellGrid.Cell;
+import classes.settings.GameSettings.Neighborhood;
+import classes.simulation.TickBuffer;
+import classes.simulation.TickBuffer.Action;
 
 public class Doodlebug extends Bug<Doodlebug> {
 
 	private Game game = Game.getInstance();
 	final private String avatar = "src/assets/doodlebug2.jpg";
 
-	int starvationTracker = 0;
-
 	public Doodlebug() {
-		idNum = (int) (Math.random() * 1000);
+		setIdNum(Math2.randInt(1000));
+	}
+
+	@Override
+	protected void initProperties() {
+		super.initProperties();
 
 		// properties
 		setProperty(Property.IS_EATABLE, false);
@@ -26,55 +32,99 @@ public class Doodlebug extends Bug<Doodlebug> {
 		return avatar;
 	}
 
+	@Override
+	public Variant getVariant() {
+		return Variant.DOODLEBUG;
+	}
+
 	@Override
 	public void move() {
 		CellGrid grid = game.getGameGrid();
-		ArrayList<Cell> adjCells = grid.getCellsAdjacentTo(getCell());
-		Cell randOccupiedCell = grid.getRandomOccupiedCellFrom(adjCells);
-		Cell randAvailableCell = grid.getRandomAvailableCellFrom(adjCells);
+		Neighborhood neighborhood = grid.getNeighborhood(getVariant());
+		Cell randOccupiedCell = grid.getRandomOccupiedCellAdjacentTo(getCell(), neighborhood);
 
 		if (randOccupiedCell != null) {
 			// Console.println("Occupant eatable: ", adjCell.isOccupantEatable(getCell()));
 			if (randOccupiedCell.isOccupantEatable()) {
 				randOccupiedCell.removeOccupant();
 				assignCell(randOccupiedCell);
-				starvationTracker = -1;
+				setStarvationTimer(-1);
 			}
-		} else if (randAvailableCell != null) {
-			assignCell(randAvailableCell);
+		} else {
+			Cell randAvailableCell = grid.getRandomAvailableCellAdjacentTo(getCell(), neighborhood);
+			if (randAvailableCell != null)
+				assignCell(randAvailableCell);
 		}
 
-		starvationTracker++;
-		movementCounter++;
+		setStarvationTimer(getStarvationTimer() + 1);
+		setMovementCounter(getMovementCounter() + 1);
 
-		if (movementCounter == 8) {
-			movementCounter = 0;
+		if (getMovementCounter() == 8) {
+			setMovementCounter(0);
 			this.breed();
 		}
-		if (starvationTracker == 3) {
+		if (getStarvationTimer() == 3) {
 			removeFromCell();
 		}
 	}
 
 	@Override
-	public void breed() {
-		ArrayList<Cell> adjCells = game
-				.getGameGrid()
-				.getCellsAdjacentTo(getCell());
-
-		for (Cell adjCell : adjCells) {
-			if (adjCell.isInBounds() && adjCell.isEmpty()) {
-				adjCell.setOccupant(new Doodlebug());
-				break;
+	public void plan(TickBuffer tick, int actor) {
+		CellGrid grid = game.getGameGrid();
+		Neighborhood neighborhood = grid.getNeighborhood(getVariant());
+		int prey = grid.getRandomOccupiedIndexAdjacentTo(getCell(), neighborhood);
+		int target = -1;
+
+		if (prey != -1) {
+			Entity<?> occupant = grid.getOccupantAt(prey);
+			if (occupant != null && occupant.getBoolean(Property.IS_EATABLE)) {
+				target = prey;
+				tick.claim(actor, Action.EAT, target);
 			}
+		} else {
+			target = grid.getRandomAvailableIndexAdjacentTo(getCell(), neighborhood);
+			tick.claim(actor, Action.MOVE, target);
 		}
+
+		setMovementCounter(getMovementCounter() + 1);
+		if (getMovementCounter() == 8) {
+			setMovementCounter(0);
+			tick.claimBirth(actor);
+		}
+	}
+
+	@Override
+	public void onFed() {
+		setStarvationTimer(-1);
+	}
+
+	@Override
+	public Doodlebug createOffspring() {
+		return new Doodlebug();
+	}
+
+	@Override
+	public boolean age() {
+		setStarvationTimer(getStarvationTimer() + 1);
+		return getStarvationTimer() == 3;
+	}
+
+	@Override
+	public void breed() {
+		CellGrid grid = game.getGameGrid();
+		Cell adjCell = grid.getAvailableCellAdjacentTo(
+				getCell(),
+				grid.getNeighborhood(getVariant()));
+
+		if (adjCell != null)
+			adjCell.setOccupant(new Doodlebug());
 	}
 
 	@Override
 	public String toString() {
 		return String.format(Console.withConsoleColors(
 				"$text-green Doodlebug$text-reset #%s"),
-				idNum);
+				getIdNum());
 	}
 
 	@Override
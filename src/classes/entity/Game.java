@@ -14,6 +14,8 @@ import classes.simulation.RenderFrame;
 import classes.simulation.SimulatedLagFrame;
 import classes.util.Console;
 import classes.util.Console.DebugPriority;
+import classes.util.FixedTimestep;
+import classes.util.RandomService;
 import classes.util.Time;
 import classes.entity.CellGrid.Cell;
 
@@ -21,6 +23,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * This class instantiates the entire game context. All methods for interacting
@@ -40,10 +43,16 @@ public class Game implements Runnable {
 	final private ArrayList<Snapshot> snapshots = new ArrayList<>();
 
 	private GameScreen screen;
-	private GameState state = GameState.INITIAL;
+	private volatile GameState state = GameState.INITIAL;
 
 	private long simulationFPS;
-	private long upTime;
+	private long stepTime = -1;
+
+	/*
+	 * The most game steps run back to back when the loop falls behind
+	 */
+	final private static int MAX_CATCH_UP_STEPS = 5;
+	private volatile long startTime = -1;
 
 	//
 	// Update frames
@@ -66,7 +75,6 @@ public class Game implements Runnable {
 
 	private Game() {
 		this.sessionId = UUID.randomUUID().toString();
-		this.upTime = Time.tick();
 		this.mainThread = new Thread(this);
 		this.state = GameState.LOADED;
 	}
@@ -84,14 +92,12 @@ public class Game implements Runnable {
 	}
 
 	public String createGameGrid() {
-		this.gameGrid = new CellGrid(this.settings.getGridSize());
+		RandomService.setSeed(this.settings.getSeed());
+		this.gameGrid = new CellGrid(this.settings);
 		return "Game grid benchmark";
 	}
 
-	// TODO: Optimize
 	public String initGameGrid() {
-		this.gameGrid.populate();
-
 		ArrayList<Cell> antCells = this.gameGrid
 				.getRandomAvailableCells(this.settings.getInitialAnts());
 
@@ -161,6 +167,7 @@ public class Game implements Runnable {
 	 */
 	public void terminate() {
 		this.setState(GameState.TERMINATED);
+		wake();
 		Console.println("TERMINATED APPLICATION");
 		Console.close();
 	}
@@ -172,41 +179,86 @@ public class Game implements Runnable {
 	 * <p>
 	 * This method serves as the main game loop, which is responsible for
 	 * updating game steps, rendering frames, and handling all other incremental
-	 * game logic.
+	 * game logic. Steps run at a fixed timestep of {@code simulationFPS}
+	 * nanoseconds, catching up at most {@code MAX_CATCH_UP_STEPS} at a time.
 	 */
 	@Override
 	public void run() {
-		long startTime = Time.tick();
+		this.startTime = Time.tick();
+
+		if (this.settings.isFrameThreadsEnabled()) {
+			runFrameThreads();
+			return;
+		}
+
+		FixedTimestep timestep = new FixedTimestep(this.simulationFPS, MAX_CATCH_UP_STEPS);
 
 		while (isThreadRunning()) {
-			this.upTime = Time.tick() - startTime;
-			if (RunService.isAllSuspended())
+			// Sleep until resumeAll() or terminate() wakes this thread, and
+			// do not catch up on the time spent suspended
+			if (RunService.isAllSuspended()) {
+				LockSupport.park(this);
+				timestep.reset();
+				this.stepTime = -1;
 				continue;
+			}
 
-			long simulationDelta = 0;
+			int steps = timestep.advance();
+			for (int step = 0; step < steps; step++) {
+				// Each step happens exactly one timestep after the previous
+				this.stepTime = this.stepTime < 0 || this.simulationFPS == 0
+						? Time.tick()
+						: this.stepTime + this.simulationFPS;
 
-			for (RunService frame : this.frameProcesses) {
-				if (frame.isSuspended())
-					continue;
-				else if (game.isTerminated())
-					break;
+				for (RunService frame : this.frameProcesses) {
+					if (frame.isSuspended())
+						continue;
+					else if (game.isTerminated())
+						break;
 
-				long frameDelta = frame.pulse();
-				if (frameDelta != -1)
-					simulationDelta += frameDelta;
+					frame.pulse();
+				}
 			}
 
-			long threadYieldTime = this.simulationFPS - simulationDelta;
-			if (threadYieldTime > 0) {
-				try {
-					Thread.sleep((long) Time.nanoToMillisecond(threadYieldTime));
-				} catch (InterruptedException e) {
-					throw new Error(e);
-				}
+			timestep.waitForNextStep();
+		}
+	}
+
+	/**
+	 * Runs every frame on a thread of its own, at its own FPS, and waits for
+	 * them all to finish once the game terminates
+	 */
+	private void runFrameThreads() {
+		for (RunService frame : this.frameProcesses)
+			frame.start(this.simulationFPS);
+
+		while (isThreadRunning())
+			LockSupport.park(this);
+
+		for (RunService frame : this.frameProcesses) {
+			frame.wake();
+
+			try {
+				frame.join();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
 			}
 		}
 	}
 
+	/**
+	 * Wakes the game loop and every frame thread if they are parked, so that
+	 * they notice a change of state
+	 */
+	public void wake() {
+		LockSupport.unpark(this.mainThread);
+
+		if (this.frameProcesses != null)
+			for (RunService frame : this.frameProcesses)
+				frame.wake();
+	}
+
 	// TODO: Add documentation
 	//
 	// Public getters
@@ -235,8 +287,30 @@ public class Game implements Runnable {
 		return this.gameGrid;
 	}
 
+	/**
+	 * @return the nanoseconds since the game loop started, or {@code 0} if it
+	 *         has not started yet
+	 */
 	public long getUpTime() {
-		return this.upTime;
+		long startTime = this.startTime;
+		return startTime < 0
+				? 0
+				: Time.tick() - startTime;
+	}
+
+	/**
+	 * @return the time of the current game step on the fixed-timestep clock,
+	 *         which starts at the wall clock and then advances by exactly one
+	 *         timestep per step, or the wall clock outside of the game loop
+	 */
+	public long getStepTime() {
+		return this.stepTime < 0
+				? Time.tick()
+				: this.stepTime;
+	}
+
+	public Thread getMainThread() {
+		return this.mainThread;
 	}
 
 	public MovementFrame getMovementFrame() {
@@ -33,7 +33,10 @@ import javax.swing.border.EmptyBorder;
 
 import classes.abstracts.Bug;
 import classes.abstracts.Properties.Property;
+import classes.abstracts.Properties.Variant;
 import classes.entity.CellGrid.Cell;
+import classes.grid.GridSnapshot;
+import classes.grid.OccupancyBitset;
 import classes.settings.GameSettings;
 
 import classes.util.Console;
@@ -90,6 +93,10 @@ public class GameScreen {
 				game.terminate();
 			}
 		});
+
+		// Start publishing grid snapshots for the screen to draw from
+		game.getMovementFrame().getSnapshots().open();
+
 		window.setVisible(true);
 	}
 
@@ -205,41 +212,32 @@ public class GameScreen {
 						ROWS * computedCellSize);
 			}
 
-			for (Cell cell : game.getGameGrid().getGrid().values()) {
-				int row = cell.getUnit2().getY();
-				int col = cell.getUnit2().getX();
+			// Draw from the latest published snapshot rather than the live grid,
+			// which the movement frame may be changing on its own thread
+			GridSnapshot snapshot = game.getMovementFrame().getSnapshots().getLatest();
+			if (snapshot == null)
+				return;
 
-				if (cell.isEmpty())
-					continue;
+			OccupancyBitset occupancy = snapshot.getOccupancy();
 
-				Bug<?> occupant = (Bug<?>) cell.getOccupant();
+			for (Variant variant : Variant.values()) {
+				BufferedImage avatar = loadedImages.get(variant.name().toLowerCase());
+				int index = occupancy.nextOccupiedBy(variant, 0);
+
+				while (index != -1) {
+					int row = index / COLS + 1;
+					int col = index % COLS + 1;
 
-				if (cell.getOccupant() instanceof Ant) {
-					g2.drawImage(
-							loadedImages.get("ant"),
-							GRID_LINE_THICKNESS + (col - 1) * CELL_SIZE,
-							GRID_LINE_THICKNESS + (row - 1) * CELL_SIZE,
-							CELL_SIZE - GRID_LINE_THICKNESS,
-							CELL_SIZE - GRID_LINE_THICKNESS,
-							contentFrame);
-				} else if (cell.getOccupant() instanceof Doodlebug) {
-					g2.drawImage(
-							loadedImages.get("doodlebug"),
-							GRID_LINE_THICKNESS + (col - 1) * CELL_SIZE,
-							GRID_LINE_THICKNESS + (row - 1) * CELL_SIZE,
-							CELL_SIZE - GRID_LINE_THICKNESS,
-							CELL_SIZE - GRID_LINE_THICKNESS,
-							contentFrame);
-				} else if (cell.getOccupant() instanceof Titan) {
 					g2.drawImage(
-							loadedImages.get("titan"),
+							avatar,
 							GRID_LINE_THICKNESS + (col - 1) * CELL_SIZE,
 							GRID_LINE_THICKNESS + (row - 1) * CELL_SIZE,
 							CELL_SIZE - GRID_LINE_THICKNESS,
 							CELL_SIZE - GRID_LINE_THICKNESS,
 							contentFrame);
-				}
 
+					index = occupancy.nextOccupiedBy(variant, index + 1);
+				}
 			}
 
 		}
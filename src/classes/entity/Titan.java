@@ -7,15 +7,28 @@ import classes.abstracts.Bug;
 import classes.abstracts.Entity;
 import classes.util.Console;
 import classes.entity.CellGrid.Cell;
+import classes.grid.NeighborTable;
+import classes.settings.GameSettings.Neighborhood;
+import classes.simulation.TickBuffer;
+import classes.simulation.TickBuffer.Action;
 
 public class Titan extends Bug<Titan> {
 
 	private Entity<?> target;
 	private Game game = Game.getInstance();
 
-	public Titan() {
+	/*
+	 * Reused by plan() for the indices adjacent to this titan
+	 */
+	private int[] adjacent = new int[0];
+
+	@Override
+	protected void initProperties() {
+		super.initProperties();
+
 		setProperty(Property.IS_EATABLE, false);
 		setProperty(Property.VARIANT, "Titan");
+		this.target = null;
 	}
 
 	@Override
@@ -37,6 +50,52 @@ public class Titan extends Bug<Titan> {
 		}
 	}
 
+	/**
+	 * Claims the available adjacent cell closest to the nearest occupant.
+	 * Unlike {@link #move()}, this does not build a cell path, since planning
+	 * must not create or mark any cells.
+	 */
+	@Override
+	public void plan(TickBuffer tick, int actor) {
+		CellGrid grid = game.getGameGrid();
+		Cell cell = getCell();
+		Cell nearestCell = grid.getCellWithNearestOccupant(cell);
+		if (nearestCell == null)
+			return;
+
+		setTarget(nearestCell.getOccupant());
+		Vector2 goal = getTarget().getProperty(Property.POSITION, Vector2.class);
+
+		Neighborhood neighborhood = grid.getNeighborhood(getVariant());
+		if (this.adjacent.length < NeighborTable.sizeOf(neighborhood))
+			this.adjacent = new int[NeighborTable.sizeOf(neighborhood)];
+
+		int[] adjacent = this.adjacent;
+		int count = grid.getIndicesAdjacentTo(cell, neighborhood, adjacent);
+		int best = -1;
+		double bestDist = Double.POSITIVE_INFINITY;
+
+		for (int i = 0; i < count; i++) {
+			if (grid.getOccupancy().isOccupied(adjacent[i]))
+				continue;
+
+			double dist = grid.getUnit2CenterAt(adjacent[i])
+					.subtract(goal)
+					.magnitude();
+
+			if (dist < bestDist) {
+				bestDist = dist;
+				best = adjacent[i];
+			}
+		}
+		tick.claim(actor, Action.MOVE, best);
+	}
+
+	@Override
+	public Titan createOffspring() {
+		return new Titan();
+	}
+
 	@Override
 	public void breed() {
 	}
@@ -45,7 +104,7 @@ public class Titan extends Bug<Titan> {
 	public String toString() {
 		return String.format(Console.withConsoleColors(
 				"$text-green Ant$text-reset #%s"),
-				idNum);
+				getIdNum());
 	}
 
 	@Override
@@ -66,4 +125,9 @@ public class Titan extends Bug<Titan> {
 		// TODO Auto-generated method stub
 		return "";
 	}
+
+	@Override
+	public Variant getVariant() {
+		return Variant.TITAN;
+	}
 }
@@ -0,0 +1,315 @@
+/*
+ * @written 10/18/2026
+ */
+package classes.grid;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import classes.abstracts.CellStorage;
+import classes.entity.CellGrid.Cell;
+import classes.entity.CellGrid.CellType;
+
+/**
+ * A storage backend for huge, mostly empty bounded grids. In-bounds cells are
+ * allocated in fixed {@code CHUNK_SIZE x CHUNK_SIZE} tiles that are created the
+ * first time one of their cells is stored, and dropped as a whole once they no
+ * longer hold any occupants.
+ *
+ * <p>
+ * Each chunk keeps a count of its occupied cells and is flagged as dirty
+ * whenever a cell is added to it or vacated. {@link #collect()} only visits
+ * dirty chunks, so the cost of collection scales with the amount of change
+ * since the last collection instead of with the total number of cells.
+ *
+ * <p>
+ * Only in-bounds units are accepted; out-of-bounds lookups are answered by the
+ * grid's shared sentinel cell.
+ */
+public class ChunkedCellStorage extends CellStorage {
+
+	final public static int CHUNK_SHIFT = 5;
+	final public static int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+	final private static int CHUNK_MASK = CHUNK_SIZE - 1;
+
+	final private int width;
+	final private int height;
+	final private int chunksX;
+	final private Chunk[] chunks;
+	final private ArrayList<Chunk> dirtyChunks = new ArrayList<>();
+	private int count = 0;
+
+	public ChunkedCellStorage(int width, int height) {
+		this.width = width;
+		this.height = height;
+		this.chunksX = (width + CHUNK_MASK) >> CHUNK_SHIFT;
+
+		int chunksY = (height + CHUNK_MASK) >> CHUNK_SHIFT;
+		this.chunks = new Chunk[this.chunksX * chunksY];
+	}
+
+	/**
+	 * A single tile of cells. Cells inside the tile are stored row-major.
+	 */
+	private class Chunk {
+
+		final private int index;
+		final private Cell[] cells = new Cell[CHUNK_SIZE * CHUNK_SIZE];
+		private int cellCount = 0;
+		private int occupantCount = 0;
+		private boolean dirty = false;
+
+		private Chunk(int index) {
+			this.index = index;
+		}
+
+		private void markDirty() {
+			if (this.dirty)
+				return;
+
+			this.dirty = true;
+			dirtyChunks.add(this);
+		}
+
+		private Cell removeAt(int slot) {
+			Cell cell = this.cells[slot];
+			if (cell == null)
+				return null;
+
+			this.cells[slot] = null;
+			this.cellCount--;
+			count--;
+
+			if (cell.hasOccupant())
+				this.occupantCount--;
+
+			if (this.cellCount == 0 && chunks[this.index] == this)
+				chunks[this.index] = null;
+
+			return cell;
+		}
+	}
+
+	private boolean inBounds(int x, int y) {
+		return x >= 1 && x <= this.width && y >= 1 && y <= this.height;
+	}
+
+	private int chunkIndexOf(int x, int y) {
+		return ((y - 1) >> CHUNK_SHIFT) * this.chunksX + ((x - 1) >> CHUNK_SHIFT);
+	}
+
+	private int slotOf(int x, int y) {
+		return (((y - 1) & CHUNK_MASK) << CHUNK_SHIFT) | ((x - 1) & CHUNK_MASK);
+	}
+
+	@Override
+	public Cell get(int x, int y) {
+		if (!inBounds(x, y))
+			return null;
+
+		Chunk chunk = this.chunks[chunkIndexOf(x, y)];
+		return chunk == null
+				? null
+				: chunk.cells[slotOf(x, y)];
+	}
+
+	@Override
+	public void put(int x, int y, Cell cell) {
+		if (!inBounds(x, y))
+			throw new Error("Chunked storage only holds in-bounds cells");
+
+		int chunkIndex = chunkIndexOf(x, y);
+		Chunk chunk = this.chunks[chunkIndex];
+		if (chunk == null) {
+			chunk = new Chunk(chunkIndex);
+			this.chunks[chunkIndex] = chunk;
+		}
+
+		int slot = slotOf(x, y);
+		Cell previous = chunk.cells[slot];
+		if (previous == null) {
+			chunk.cellCount++;
+			this.count++;
+		} else if (previous.hasOccupant()) {
+			chunk.occupantCount--;
+		}
+
+		chunk.cells[slot] = cell;
+		if (cell.hasOccupant())
+			chunk.occupantCount++;
+
+		chunk.markDirty();
+	}
+
+	@Override
+	public Cell remove(int x, int y) {
+		if (!inBounds(x, y))
+			return null;
+
+		Chunk chunk = this.chunks[chunkIndexOf(x, y)];
+		return chunk == null
+				? null
+				: chunk.removeAt(slotOf(x, y));
+	}
+
+	@Override
+	public boolean accepts(int x, int y) {
+		return inBounds(x, y);
+	}
+
+	@Override
+	public int size() {
+		return this.count;
+	}
+
+	@Override
+	public void clear() {
+		Arrays.fill(this.chunks, null);
+		this.dirtyChunks.clear();
+		this.count = 0;
+	}
+
+	/**
+	 * Only counts occupancy changes of the cell that is actually stored at that
+	 * unit, so that {@code occupantCount} always matches the stored cells.
+	 */
+	@Override
+	public void onOccupied(Cell cell) {
+		Chunk chunk = storedChunkOf(cell);
+		if (chunk != null)
+			chunk.occupantCount++;
+	}
+
+	@Override
+	public void onVacated(Cell cell) {
+		Chunk chunk = storedChunkOf(cell);
+		if (chunk != null) {
+			chunk.occupantCount--;
+			chunk.markDirty();
+		}
+	}
+
+	private Chunk storedChunkOf(Cell cell) {
+		int x = cell.getUnit2().getX();
+		int y = cell.getUnit2().getY();
+
+		if (!inBounds(x, y))
+			return null;
+
+		Chunk chunk = this.chunks[chunkIndexOf(x, y)];
+		return chunk != null && chunk.cells[slotOf(x, y)] == cell
+				? chunk
+				: null;
+	}
+
+	/**
+	 * Visits dirty chunks only. A dirty chunk without occupants is dropped as
+	 * a whole; otherwise its empty cells are collected one by one.
+	 */
+	@Override
+	public int collect() {
+		int collected = 0;
+
+		for (int i = 0; i < this.dirtyChunks.size(); i++) {
+			Chunk chunk = this.dirtyChunks.get(i);
+			chunk.dirty = false;
+
+			if (this.chunks[chunk.index] != chunk)
+				continue;
+
+			if (chunk.occupantCount == 0) {
+				for (Cell cell : chunk.cells)
+					if (cell != null)
+						cell.setType(CellType.GARBAGE_COLLECTED);
+
+				collected += chunk.cellCount;
+				this.count -= chunk.cellCount;
+				this.chunks[chunk.index] = null;
+				continue;
+			}
+
+			for (int slot = 0; slot < chunk.cells.length; slot++) {
+				Cell cell = chunk.cells[slot];
+
+				if (cell != null && cell.isCollectable()) {
+					chunk.removeAt(slot);
+					cell.setType(CellType.GARBAGE_COLLECTED);
+					collected++;
+				}
+			}
+		}
+
+		this.dirtyChunks.clear();
+		return collected;
+	}
+
+	/**
+	 * @return the number of chunks currently allocated
+	 */
+	public int getChunkCount() {
+		int allocated = 0;
+		for (Chunk chunk : this.chunks)
+			if (chunk != null)
+				allocated++;
+
+		return allocated;
+	}
+
+	/**
+	 * Iterates chunk by chunk, in row-major order within each chunk
+	 */
+	@Override
+	public Iterator<Cell> iterator() {
+		return new Iterator<Cell>() {
+
+			private int chunkIndex = 0;
+			private int slot = 0;
+			private Chunk currentChunk;
+			private int currentSlot = -1;
+
+			private boolean seek() {
+				while (this.chunkIndex < chunks.length) {
+					Chunk chunk = chunks[this.chunkIndex];
+
+					if (chunk != null) {
+						while (this.slot < chunk.cells.length) {
+							if (chunk.cells[this.slot] != null)
+								return true;
+							this.slot++;
+						}
+					}
+					this.chunkIndex++;
+					this.slot = 0;
+				}
+				return false;
+			}
+
+			@Override
+			public boolean hasNext() {
+				return seek();
+			}
+
+			@Override
+			public Cell next() {
+				if (!seek())
+					throw new NoSuchElementException();
+
+				this.currentChunk = chunks[this.chunkIndex];
+				this.currentSlot = this.slot++;
+				return this.currentChunk.cells[this.currentSlot];
+			}
+
+			@Override
+			public void remove() {
+				if (this.currentSlot == -1)
+					throw new IllegalStateException();
+
+				this.currentChunk.removeAt(this.currentSlot);
+				this.currentChunk.markDirty();
+				this.currentSlot = -1;
+			}
+		};
+	}
+}
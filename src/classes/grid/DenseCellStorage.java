@@ -0,0 +1,154 @@
+/*
+ * @written 10/18/2026
+ */
+package classes.grid;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import classes.abstracts.CellStorage;
+import classes.entity.CellGrid.Cell;
+
+/**
+ * A storage backend for bounded grids that keeps every in-bounds cell in a
+ * flat row-major array. The cell at unit {@code (x, y)} lives at index
+ * {@code (y - 1) * width + (x - 1)}, so lookups are a bounds check and an
+ * array read.
+ *
+ * <p>
+ * Out-of-bounds units are not accepted; {@code CellGrid} answers those with
+ * its shared out-of-bounds sentinel.
+ */
+public class DenseCellStorage extends CellStorage {
+
+	final private int width;
+	final private int height;
+	final private Cell[] cells;
+	private int count = 0;
+
+	public DenseCellStorage(int width, int height) {
+		if ((long) width * height > Integer.MAX_VALUE)
+			throw new Error("Grid size is too large for dense cell storage");
+
+		this.width = width;
+		this.height = height;
+		this.cells = new Cell[width * height];
+	}
+
+	/**
+	 * Converts a cell unit into its array index
+	 *
+	 * @return the row-major index of {@code (x, y)}, or {@code -1} if the unit
+	 *         is outside of the grid
+	 */
+	public int indexOf(int x, int y) {
+		if (x < 1 || x > this.width || y < 1 || y > this.height)
+			return -1;
+
+		return (y - 1) * this.width + (x - 1);
+	}
+
+	@Override
+	public Cell get(int x, int y) {
+		int index = indexOf(x, y);
+		return index == -1
+				? null
+				: this.cells[index];
+	}
+
+	@Override
+	public void put(int x, int y, Cell cell) {
+		int index = indexOf(x, y);
+		if (index == -1)
+			throw new Error(String.format("Cannot store cell (%s, %s) outside of dense grid", x, y));
+
+		if (this.cells[index] == null)
+			this.count++;
+
+		this.cells[index] = cell;
+	}
+
+	@Override
+	public Cell remove(int x, int y) {
+		int index = indexOf(x, y);
+		if (index == -1)
+			return null;
+
+		return removeAt(index);
+	}
+
+	private Cell removeAt(int index) {
+		Cell cell = this.cells[index];
+		if (cell != null) {
+			this.cells[index] = null;
+			this.count--;
+		}
+		return cell;
+	}
+
+	@Override
+	public boolean accepts(int x, int y) {
+		return indexOf(x, y) != -1;
+	}
+
+	@Override
+	public int size() {
+		return this.count;
+	}
+
+	@Override
+	public void clear() {
+		Arrays.fill(this.cells, null);
+		this.count = 0;
+	}
+
+	/**
+	 * Dense slots are allocated up front for every in-bounds cell, so dropping
+	 * empty cells frees nothing and only forces them to be rebuilt on the next
+	 * lookup. Collection is therefore a no-op for this backend.
+	 */
+	@Override
+	public int collect() {
+		return 0;
+	}
+
+	@Override
+	public Iterator<Cell> iterator() {
+		return new Iterator<Cell>() {
+
+			private int nextIndex = seek(0);
+			private int lastIndex = -1;
+
+			private int seek(int from) {
+				while (from < cells.length && cells[from] == null)
+					from++;
+				return from;
+			}
+
+			@Override
+			public boolean hasNext() {
+				return this.nextIndex < cells.length;
+			}
+
+			@Override
+			public Cell next() {
+				if (!hasNext())
+					throw new NoSuchElementException();
+
+				this.lastIndex = this.nextIndex;
+				this.nextIndex = seek(this.nextIndex + 1);
+				return cells[this.lastIndex];
+			}
+
+			@Override
+			public void remove() {
+				if (this.lastIndex == -1)
+					throw new IllegalStateException();
+
+				removeAt(this.lastIndex);
+				this.lastIndex = -1;
+			}
+		};
+	}
+}
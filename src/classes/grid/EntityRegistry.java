@@ -0,0 +1,242 @@
+/*
+ * @written 10/18/2026
+ */
+package classes.grid;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import classes.abstracts.Bug;
+import classes.abstracts.Entity;
+import classes.abstracts.Properties.Variant;
+
+/**
+ * Tracks the live entities of a grid. Every registered entity gets a stable
+ * id, which is stored on the entity itself and recycled through a free-id
+ * stack once the entity is unregistered.
+ *
+ * <p>
+ * Entities are also kept in one dense list per {@code Variant}. Removing an
+ * entity swaps the last entity of its list into its place, so registering and
+ * unregistering are both O(1), and iterating a variant only ever visits live
+ * entities. The order of a variant list is therefore not stable across
+ * removals.
+ *
+ * <p>
+ * When the registry has an {@code EntityStore}, registered bugs are attached
+ * to it, so their state lives in its columns for as long as they are
+ * registered.
+ */
+public class EntityRegistry {
+
+	private Entity<?>[] entities = new Entity<?>[64];
+	private int[] positions = new int[64];
+	private int[] freeIds = new int[64];
+	private int freeCount = 0;
+	private int nextId = 0;
+	private long registrations = 0;
+
+	final private int[][] variantIds;
+	final private int[] variantSizes;
+	final private EntityStore store;
+
+	public EntityRegistry() {
+		this(null);
+	}
+
+	/**
+	 * @param store the store registered bugs keep their state in, or
+	 *              {@code null} to leave it on the bugs
+	 */
+	public EntityRegistry(EntityStore store) {
+		this.variantIds = new int[Variant.values().length][16];
+		this.variantSizes = new int[Variant.values().length];
+		this.store = store;
+	}
+
+	/**
+	 * Registers an entity if it is not registered already
+	 *
+	 * @param entity the entity to register
+	 * @return the id of the entity
+	 */
+	public int register(Entity<?> entity) {
+		if (isRegistered(entity))
+			return entity.getEntityId();
+
+		int id = allocateId();
+		int variant = entity.getVariant().ordinal();
+		int position = this.variantSizes[variant]++;
+
+		if (position == this.variantIds[variant].length)
+			this.variantIds[variant] = Arrays.copyOf(this.variantIds[variant], position * 2);
+
+		this.variantIds[variant][position] = id;
+		this.entities[id] = entity;
+		this.positions[id] = position;
+		this.registrations++;
+		entity.setEntityId(id);
+
+		if (this.store != null && entity instanceof Bug)
+			((Bug<?>) entity).attach(this.store);
+		return id;
+	}
+
+	/**
+	 * Unregisters an entity and frees its id. Does nothing if the entity is not
+	 * registered here.
+	 *
+	 * @param entity the entity to unregister
+	 */
+	public void unregister(Entity<?> entity) {
+		if (!isRegistered(entity))
+			return;
+
+		if (entity instanceof Bug)
+			((Bug<?>) entity).detach();
+
+		int id = entity.getEntityId();
+		int variant = entity.getVariant().ordinal();
+		int position = this.positions[id];
+		int last = --this.variantSizes[variant];
+
+		int movedId = this.variantIds[variant][last];
+		this.variantIds[variant][position] = movedId;
+		this.positions[movedId] = position;
+
+		this.entities[id] = null;
+		this.freeIds[this.freeCount++] = id;
+		entity.setEntityId(-1);
+	}
+
+	private int allocateId() {
+		if (this.freeCount > 0)
+			return this.freeIds[--this.freeCount];
+
+		if (this.nextId == this.entities.length) {
+			int capacity = this.entities.length * 2;
+			this.entities = Arrays.copyOf(this.entities, capacity);
+			this.positions = Arrays.copyOf(this.positions, capacity);
+			this.freeIds = Arrays.copyOf(this.freeIds, capacity);
+		}
+		return this.nextId++;
+	}
+
+	public boolean isRegistered(Entity<?> entity) {
+		int id = entity.getEntityId();
+		return id >= 0 && id < this.nextId && this.entities[id] == entity;
+	}
+
+	/**
+	 * @param id an entity id
+	 * @return the live entity with that id, or {@code null}
+	 */
+	public Entity<?> get(int id) {
+		return id >= 0 && id < this.nextId
+				? this.entities[id]
+				: null;
+	}
+
+	/**
+	 * Gets an entity by its position in its variant list, for index-based
+	 * loops that should not allocate an iterator
+	 *
+	 * @param variant  the variant list to read
+	 * @param position a position from {@code 0} to {@code size(variant) - 1}
+	 * @return the entity at that position
+	 */
+	public Entity<?> get(Variant variant, int position) {
+		return this.entities[this.variantIds[variant.ordinal()][position]];
+	}
+
+	/**
+	 * @return the number of live entities
+	 */
+	public int size() {
+		int total = 0;
+		for (int size : this.variantSizes)
+			total += size;
+
+		return total;
+	}
+
+	/**
+	 * @param variant the variant to count
+	 * @return the number of live entities of {@code variant}
+	 */
+	public int size(Variant variant) {
+		return this.variantSizes[variant.ordinal()];
+	}
+
+	/**
+	 * @return one past the highest id handed out so far; every live id is below
+	 *         this
+	 */
+	public int getIdLimit() {
+		return this.nextId;
+	}
+
+	/**
+	 * @return how many times an entity was newly registered here
+	 */
+	public long getRegistrationCount() {
+		return this.registrations;
+	}
+
+	/**
+	 * @return the store registered bugs keep their state in, or {@code null}
+	 */
+	public EntityStore getStore() {
+		return this.store;
+	}
+
+	/**
+	 * Forgets every entity, resetting their ids
+	 */
+	public void clear() {
+		for (int id = 0; id < this.nextId; id++) {
+			Entity<?> entity = this.entities[id];
+			if (entity == null)
+				continue;
+
+			if (entity instanceof Bug)
+				((Bug<?>) entity).detach();
+			entity.setEntityId(-1);
+		}
+
+		Arrays.fill(this.entities, null);
+		Arrays.fill(this.variantSizes, 0);
+		this.freeCount = 0;
+		this.nextId = 0;
+	}
+
+	/**
+	 * A view over the live entities of one variant. Entities must not be
+	 * unregistered while the view is being iterated.
+	 *
+	 * @param variant the variant to iterate
+	 * @return an {@code Iterable} over the live entities of {@code variant}
+	 */
+	public Iterable<Entity<?>> getEntities(Variant variant) {
+		int list = variant.ordinal();
+
+		return () -> new Iterator<Entity<?>>() {
+
+			private int position = 0;
+
+			@Override
+			public boolean hasNext() {
+				return this.position < variantSizes[list];
+			}
+
+			@Override
+			public Entity<?> next() {
+				if (!hasNext())
+					throw new NoSuchElementException();
+
+				return entities[variantIds[list][this.position++]];
+			}
+		};
+	}
+}
@@ -0,0 +1,128 @@
+/*
+ * @written 10/18/2026
+ */
+package classes.grid;
+
+import java.util.Arrays;
+
+import classes.abstracts.Properties.Variant;
+
+/**
+ * Keeps the per-tick state of every registered {@code Bug} in primitive
+ * columns indexed by entity id, instead of in fields spread across the heap.
+ *
+ * <p>
+ * While a bug is registered, its store columns are the source of truth and
+ * the bug itself is only a handle: its accessors read and write the row of its
+ * entity id. The bug's own fields only hold its state while it is off the
+ * grid. Ids are recycled by the {@code EntityRegistry}, so rows are reused
+ * rather than the columns growing with every birth.
+ */
+public class EntityStore {
+
+	/*
+	 * Variant ordinal plus one, or 0 for a free row
+	 */
+	private byte[] variants = new byte[64];
+	private int[] cells = new int[64];
+	private int[] tags = new int[64];
+	private int[] movementCounters = new int[64];
+	private int[] starvationTimers = new int[64];
+	private double[] rotations = new double[64];
+
+	/**
+	 * Grows the columns so that {@code id} has a row
+	 */
+	public void ensureCapacity(int id) {
+		if (id < this.variants.length)
+			return;
+
+		int capacity = Math.max(id + 1, this.variants.length * 2);
+		this.variants = Arrays.copyOf(this.variants, capacity);
+		this.cells = Arrays.copyOf(this.cells, capacity);
+		this.tags = Arrays.copyOf(this.tags, capacity);
+		this.movementCounters = Arrays.copyOf(this.movementCounters, capacity);
+		this.starvationTimers = Arrays.copyOf(this.starvationTimers, capacity);
+		this.rotations = Arrays.copyOf(this.rotations, capacity);
+	}
+
+	/**
+	 * Claims the row of {@code id} for an entity of {@code variant}
+	 */
+	public void open(int id, Variant variant) {
+		ensureCapacity(id);
+		this.variants[id] = (byte) (variant.ordinal() + 1);
+		this.cells[id] = -1;
+	}
+
+	/**
+	 * Frees the row of {@code id}
+	 */
+	public void close(int id) {
+		this.variants[id] = 0;
+		this.cells[id] = -1;
+	}
+
+	/**
+	 * @return the variant of the row, or {@code null} if the row is free
+	 */
+	public Variant getVariant(int id) {
+		int variant = this.variants[id];
+		return variant == 0
+				? null
+				: Variant.values()[variant - 1];
+	}
+
+	/**
+	 * @return the row-major index of the entity's cell, or {@code -1}
+	 */
+	public int getCell(int id) {
+		return this.cells[id];
+	}
+
+	public void setCell(int id, int index) {
+		this.cells[id] = index;
+	}
+
+	/**
+	 * @return the display tag of the entity
+	 */
+	public int getTag(int id) {
+		return this.tags[id];
+	}
+
+	public void setTag(int id, int tag) {
+		this.tags[id] = tag;
+	}
+
+	public int getMovementCounter(int id) {
+		return this.movementCounters[id];
+	}
+
+	public void setMovementCounter(int id, int movementCounter) {
+		this.movementCounters[id] = movementCounter;
+	}
+
+	public int getStarvationTimer(int id) {
+		return this.starvationTimers[id];
+	}
+
+	public void setStarvationTimer(int id, int starvationTimer) {
+		this.starvationTimers[id] = starvationTimer;
+	}
+
+	public double getRotation(int id) {
+		return this.rotations[id];
+	}
+
+	public void setRotation(int id, double rotation) {
+		this.rotations[id] = rotation;
+	}
+
+	/**
+	 * @return the number of rows the columns currently hold
+	 */
+	public int getCapacity() {
+		return this.variants.length;
+	}
+}
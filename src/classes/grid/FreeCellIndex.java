@@ -0,0 +1,126 @@
+/*
+ * @written 10/18/2026
+ */
+package classes.grid;
+
+import classes.util.Math2;
+
+/**
+ * An indexed set of every free (in-bounds and unoccupied) cell index on a
+ * bounded grid. Members are kept packed at the front of an array, and each
+ * cell index remembers its position in that array, so adding and removing are
+ * O(1) swap-removes.
+ *
+ * <p>
+ * Because the members are packed, a uniform random free cell is a single array
+ * read, and a sample of {@code k} distinct free cells is a partial
+ * Fisher-Yates shuffle over the first {@code k} positions, which costs O(k)
+ * regardless of the grid size.
+ */
+public class FreeCellIndex {
+
+	final private int[] members;
+	final private int[] positions;
+	private int size;
+
+	/**
+	 * Creates an index where every one of the {@code cellCount} cells is free
+	 *
+	 * @param cellCount the number of in-bounds cells on the grid
+	 */
+	public FreeCellIndex(int cellCount) {
+		this.members = new int[cellCount];
+		this.positions = new int[cellCount];
+		reset();
+	}
+
+	/**
+	 * Marks every cell as free again
+	 */
+	public void reset() {
+		for (int index = 0; index < this.members.length; index++) {
+			this.members[index] = index;
+			this.positions[index] = index;
+		}
+		this.size = this.members.length;
+	}
+
+	public boolean contains(int index) {
+		return this.positions[index] != -1;
+	}
+
+	/**
+	 * Adds a cell index to the free set, if it isn't a member already
+	 *
+	 * @param index the row-major cell index
+	 */
+	public void add(int index) {
+		if (contains(index))
+			return;
+
+		this.members[this.size] = index;
+		this.positions[index] = this.size;
+		this.size++;
+	}
+
+	/**
+	 * Removes a cell index from the free set by moving the last member into its
+	 * position
+	 *
+	 * @param index the row-major cell index
+	 */
+	public void remove(int index) {
+		int position = this.positions[index];
+		if (position == -1)
+			return;
+
+		int last = this.members[--this.size];
+		this.members[position] = last;
+		this.positions[last] = position;
+		this.positions[index] = -1;
+	}
+
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * @return a uniform random free cell index, or {@code -1} if no cell is
+	 *         free
+	 */
+	public int random() {
+		if (this.size == 0)
+			return -1;
+
+		return this.members[Math2.randInt(this.size)];
+	}
+
+	/**
+	 * Picks {@code amount} distinct free cell indices uniformly at random. Only
+	 * the order of the members changes; the set itself is left untouched.
+	 *
+	 * @param amount the number of indices to pick
+	 * @param out    the buffer to write the picked indices to
+	 * @return {@code out}
+	 */
+	public int[] sample(int amount, int[] out) {
+		if (amount > this.size)
+			throw new Error("Random selection size exceeds limit");
+
+		for (int i = 0; i < amount; i++) {
+			swap(i, i + Math2.randInt(this.size - i));
+			out[i] = this.members[i];
+		}
+		return out;
+	}
+
+	private void swap(int a, int b) {
+		int memberA = this.members[a];
+		int memberB = this.members[b];
+
+		this.members[a] = memberB;
+		this.members[b] = memberA;
+		this.positions[memberB] = a;
+		this.positions[memberA] = b;
+	}
+}
@@ -0,0 +1,54 @@
+/*
+ * @written 10/18/2026
+ */
+package classes.grid;
+
+/**
+ * An immutable copy of the grid's occupancy after a tick, stamped with a
+ * version that goes up by one per published snapshot. Readers on other
+ * threads can hold on to a snapshot for as long as they like while the
+ * simulation keeps changing the live grid.
+ */
+public class GridSnapshot {
+
+	final private long version;
+	final private long tick;
+	final private int columns;
+	final private int rows;
+	final private OccupancyBitset occupancy;
+
+	public GridSnapshot(long version, long tick, int columns, int rows, OccupancyBitset occupancy) {
+		this.version = version;
+		this.tick = tick;
+		this.columns = columns;
+		this.rows = rows;
+		this.occupancy = occupancy;
+	}
+
+	public long getVersion() {
+		return this.version;
+	}
+
+	/**
+	 * @return the number of ticks the simulation had run when this snapshot
+	 *         was taken
+	 */
+	public long getTick() {
+		return this.tick;
+	}
+
+	public int getColumns() {
+		return this.columns;
+	}
+
+	public int getRows() {
+		return this.rows;
+	}
+
+	/**
+	 * @return the copied occupancy, which must not be modified
+	 */
+	public OccupancyBitset getOccupancy() {
+		return this.occupancy;
+	}
+}
@@ -0,0 +1,69 @@
+/*
+ * @written 10/18/2026
+ */
+package classes.grid;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import classes.abstracts.CellStorage;
+import classes.entity.CellGrid.Cell;
+
+/**
+ * The original {@code CellGrid} storage: a thread-safe hashmap keyed by the
+ * serialized {@code Unit2} of each cell. Accepts any cell unit, including
+ * out-of-bounds ones.
+ */
+public class HashCellStorage extends CellStorage {
+
+	final private Map<String, Cell> virtualGrid = new ConcurrentHashMap<>();
+
+	/**
+	 * Builds the same key that {@code Unit2.serialize()} would produce, without
+	 * creating the {@code Unit2} object first.
+	 */
+	private String key(int x, int y) {
+		return new StringBuilder("Unit2{")
+				.append(x)
+				.append(", ")
+				.append(y)
+				.append("}")
+				.toString();
+	}
+
+	@Override
+	public Cell get(int x, int y) {
+		return this.virtualGrid.get(key(x, y));
+	}
+
+	@Override
+	public void put(int x, int y, Cell cell) {
+		this.virtualGrid.put(key(x, y), cell);
+	}
+
+	@Override
+	public Cell remove(int x, int y) {
+		return this.virtualGrid.remove(key(x, y));
+	}
+
+	@Override
+	public boolean accepts(int x, int y) {
+		return true;
+	}
+
+	@Override
+	public int size() {
+		return this.virtualGrid.size();
+	}
+
+	@Override
+	public void clear() {
+		this.virtualGrid.clear();
+	}
+
+	@Override
+	public Iterator<Cell> iterator() {
+		return this.virtualGrid.values().iterator();
+	}
+}
@@ -0,0 +1,80 @@
+/*
+ * @written 10/18/2026
+ */
+package classes.grid;
+
+import classes.settings.GameSettings.Neighborhood;
+
+/**
+ * Precomputed neighbour indices for every in-bounds cell of a grid, built once
+ * when the grid is created.
+ *
+ * <p>
+ * Each cell owns eight consecutive slots. The first four are its von Neumann
+ * neighbours (top, bottom, left, right) and the last four are the diagonal
+ * ones (top-left, top-right, bottom-left, bottom-right), so the von Neumann
+ * table is simply the first half of every Moore row. Neighbours that fall
+ * outside of the grid hold {@link #NO_NEIGHBOR}, unless the table wraps, in
+ * which case they hold the cell on the opposite edge.
+ */
+public class NeighborTable {
+
+	final public static int NO_NEIGHBOR = -1;
+	final public static int SLOTS = 8;
+
+	final public static int[] OFFSET_X = { 0, 0, -1, 1, -1, 1, -1, 1 };
+	final public static int[] OFFSET_Y = { 1, -1, 0, 0, 1, 1, -1, -1 };
+
+	final private int[] neighbors;
+
+	/**
+	 * @param width  the width of the grid in cell units
+	 * @param height the height of the grid in cell units
+	 * @param wrap   whether neighbours past an edge wrap around to the opposite
+	 *               edge (toroidal grids)
+	 */
+	public NeighborTable(int width, int height, boolean wrap) {
+		if ((long) width * height * SLOTS > Integer.MAX_VALUE)
+			throw new Error("Grid size is too large for a neighbor table");
+
+		this.neighbors = new int[width * height * SLOTS];
+
+		for (int y = 1; y <= height; y++) {
+			for (int x = 1; x <= width; x++) {
+				int base = ((y - 1) * width + (x - 1)) * SLOTS;
+
+				for (int slot = 0; slot < SLOTS; slot++) {
+					int nx = x - 1 + OFFSET_X[slot];
+					int ny = y - 1 + OFFSET_Y[slot];
+
+					if (wrap) {
+						nx = Math.floorMod(nx, width);
+						ny = Math.floorMod(ny, height);
+					}
+
+					this.neighbors[base + slot] = nx < 0 || nx >= width || ny < 0 || ny >= height
+							? NO_NEIGHBOR
+							: ny * width + nx;
+				}
+			}
+		}
+	}
+
+	/**
+	 * @param index the row-major index of a cell
+	 * @param slot  the neighbour slot, from {@code 0} to {@code SLOTS - 1}
+	 * @return the index of the neighbour, or {@link #NO_NEIGHBOR}
+	 */
+	public int get(int index, int slot) {
+		return this.neighbors[index * SLOTS + slot];
+	}
+
+	/**
+	 * @return the number of slots a neighbourhood reads from each row
+	 */
+	public static int sizeOf(Neighborhood neighborhood) {
+		return neighborhood == Neighborhood.MOORE
+				? 8
+				: 4;
+	}
+}
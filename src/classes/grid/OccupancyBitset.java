@@ -0,0 +1,205 @@
+/*
+ * @written 10/18/2026
+ */
+package classes.grid;
+
+import java.util.Arrays;
+
+import classes.abstracts.Properties.Variant;
+
+/**
+ * A compact occupancy layer for bounded grids. Keeps one bit per in-bounds
+ * cell for "any occupant", plus one bitset per {@code Variant}, all indexed by
+ * the row-major cell index {@code (y - 1) * width + (x - 1)}.
+ *
+ * <p>
+ * Vacancy checks become a single bit test and population counts become a
+ * {@code Long.bitCount} sweep over the words, without touching any
+ * {@code Cell} objects. The raw words are exposed so that rendering and
+ * snapshots can read the grid state directly.
+ */
+public class OccupancyBitset {
+
+	final private int cellCount;
+	final private long[] occupied;
+	final private long[][] variants;
+
+	public OccupancyBitset(int cellCount) {
+		int words = (cellCount + 63) >>> 6;
+
+		this.cellCount = cellCount;
+		this.occupied = new long[words];
+		this.variants = new long[Variant.values().length][words];
+	}
+
+	/**
+	 * @return an independent copy of every bitset, for handing the current
+	 *         occupancy to another thread
+	 */
+	public OccupancyBitset copy() {
+		OccupancyBitset copy = new OccupancyBitset(this.cellCount);
+
+		System.arraycopy(this.occupied, 0, copy.occupied, 0, this.occupied.length);
+		for (int variant = 0; variant < this.variants.length; variant++)
+			System.arraycopy(this.variants[variant], 0, copy.variants[variant], 0, this.occupied.length);
+
+		return copy;
+	}
+
+	/**
+	 * Marks the cell at {@code index} as occupied by a given variant
+	 *
+	 * @param index   the row-major cell index
+	 * @param variant the variant of the new occupant
+	 */
+	public void set(int index, Variant variant) {
+		long bit = 1L << index;
+		int word = index >>> 6;
+
+		this.occupied[word] |= bit;
+		this.variants[variant.ordinal()][word] |= bit;
+	}
+
+	/**
+	 * Marks the cell at {@code index} as empty
+	 *
+	 * @param index the row-major cell index
+	 */
+	public void clear(int index) {
+		long bit = ~(1L << index);
+		int word = index >>> 6;
+
+		this.occupied[word] &= bit;
+		for (long[] variantWords : this.variants)
+			variantWords[word] &= bit;
+	}
+
+	/**
+	 * Marks every cell as empty
+	 */
+	public void clear() {
+		Arrays.fill(this.occupied, 0);
+		for (long[] variantWords : this.variants)
+			Arrays.fill(variantWords, 0);
+	}
+
+	public boolean isOccupied(int index) {
+		return (this.occupied[index >>> 6] & (1L << index)) != 0;
+	}
+
+	public boolean isOccupiedBy(int index, Variant variant) {
+		return (this.variants[variant.ordinal()][index >>> 6] & (1L << index)) != 0;
+	}
+
+	/**
+	 * @return the total number of occupied cells
+	 */
+	public int count() {
+		return count(this.occupied);
+	}
+
+	/**
+	 * @param variant the variant to count
+	 * @return the number of cells occupied by {@code variant}
+	 */
+	public int count(Variant variant) {
+		return count(this.variants[variant.ordinal()]);
+	}
+
+	private static int count(long[] words) {
+		int total = 0;
+		for (long word : words)
+			total += Long.bitCount(word);
+
+		return total;
+	}
+
+	/**
+	 * Finds the next occupied cell index at or after {@code fromIndex}
+	 *
+	 * @param fromIndex the index to start searching at
+	 * @return the next occupied index, or {@code -1} if there is none
+	 */
+	public int nextOccupied(int fromIndex) {
+		return nextSetBit(this.occupied, fromIndex);
+	}
+
+	/**
+	 * Finds the next cell index at or after {@code fromIndex} that is occupied
+	 * by {@code variant}
+	 *
+	 * @return the next matching index, or {@code -1} if there is none
+	 */
+	public int nextOccupiedBy(Variant variant, int fromIndex) {
+		return nextSetBit(this.variants[variant.ordinal()], fromIndex);
+	}
+
+	private int nextSetBit(long[] words, int fromIndex) {
+		if (fromIndex >= this.cellCount)
+			return -1;
+
+		int word = fromIndex >>> 6;
+		long bits = words[word] & (-1L << fromIndex);
+
+		while (true) {
+			if (bits != 0) {
+				int index = (word << 6) + Long.numberOfTrailingZeros(bits);
+				return index < this.cellCount
+						? index
+						: -1;
+			}
+			if (++word == words.length)
+				return -1;
+			bits = words[word];
+		}
+	}
+
+	/**
+	 * Finds the empty cell with a given rank, counting empty cells in index
+	 * order. Skips whole words with {@code Long.bitCount}, so this is a linear
+	 * sweep over the words rather than over the cells.
+	 *
+	 * @param rank the zero-based rank of the empty cell to find
+	 * @return the index of that empty cell, or {@code -1} if there are not
+	 *         enough empty cells
+	 */
+	public int selectVacant(int rank) {
+		int lastWord = this.occupied.length - 1;
+
+		for (int word = 0; word <= lastWord; word++) {
+			long vacant = ~this.occupied[word];
+			if (word == lastWord && (this.cellCount & 63) != 0)
+				vacant &= (1L << this.cellCount) - 1;
+
+			int bits = Long.bitCount(vacant);
+			if (rank >= bits) {
+				rank -= bits;
+				continue;
+			}
+
+			for (; rank > 0; rank--)
+				vacant &= vacant - 1;
+
+			return (word << 6) + Long.numberOfTrailingZeros(vacant);
+		}
+		return -1;
+	}
+
+	/**
+	 * @return the raw "any occupant" words, one bit per cell index
+	 */
+	public long[] getWords() {
+		return this.occupied;
+	}
+
+	/**
+	 * @return the raw words for a single variant, one bit per cell index
+	 */
+	public long[] getWords(Variant variant) {
+		return this.variants[variant.ordinal()];
+	}
+
+	public int getCellCount() {
+		return this.cellCount;
+	}
+}
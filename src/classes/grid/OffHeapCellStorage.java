@@ -0,0 +1,344 @@
+/*
+ * @written 10/18/2026
+ */
+package classes.grid;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import classes.abstracts.CellStorage;
+import classes.abstracts.Properties.Variant;
+import classes.entity.CellGrid.Cell;
+
+/**
+ * A storage backend for very large bounded grids (on the order of
+ * {@code 10^8} cells) that keeps the state of every cell outside of the Java
+ * heap, in direct {@code ByteBuffer} pages.
+ *
+ * <p>
+ * Each cell owns {@link #CELL_BYTES} bytes: the occupant type (the occupant's
+ * {@code Variant} ordinal plus one, or {@code 0} if empty), a flags byte, and
+ * the id of the occupant's slot. Pages are {@code 2^PAGE_SHIFT} cells long and
+ * are only allocated once a cell inside them is written to, so untouched parts
+ * of the world cost nothing.
+ *
+ * <p>
+ * Empty cells never have a stored {@code Cell} object; {@code CellGrid} hands
+ * out short-lived views for them instead. Only occupied cells keep their view
+ * alive, in an on-heap slot table indexed by occupant id, so heap usage scales
+ * with the population rather than with the area of the grid. Iteration
+ * therefore only visits occupied cells.
+ */
+public class OffHeapCellStorage extends CellStorage {
+
+	final public static int PAGE_SHIFT = 20;
+	final public static int PAGE_CELLS = 1 << PAGE_SHIFT;
+	final private static int PAGE_MASK = PAGE_CELLS - 1;
+
+	final public static int CELL_BYTES = 8;
+	final private static int TYPE_OFFSET = 0;
+	final private static int FLAGS_OFFSET = 1;
+	final private static int ID_OFFSET = 4;
+
+	final public static byte FLAG_PATH = 1;
+
+	final private int width;
+	final private int height;
+	private ByteBuffer[] pages;
+
+	private Cell[] views = new Cell[64];
+	private int[] freeIds = new int[64];
+	private int freeCount = 0;
+	private int nextId = 0;
+	private int count = 0;
+
+	public OffHeapCellStorage(int width, int height) {
+		long area = (long) width * height;
+		if (area > Integer.MAX_VALUE)
+			throw new Error("Grid size is too large for off-heap cell storage");
+
+		this.width = width;
+		this.height = height;
+		this.pages = new ByteBuffer[(int) ((area + PAGE_MASK) >> PAGE_SHIFT)];
+	}
+
+	/**
+	 * @return the row-major index of {@code (x, y)}, or {@code -1} if the unit
+	 *         is outside of the grid
+	 */
+	public int indexOf(int x, int y) {
+		if (x < 1 || x > this.width || y < 1 || y > this.height)
+			return -1;
+
+		return (y - 1) * this.width + (x - 1);
+	}
+
+	private ByteBuffer pageOf(int index, boolean create) {
+		int pageIndex = index >>> PAGE_SHIFT;
+		ByteBuffer page = this.pages[pageIndex];
+
+		if (page == null && create) {
+			page = ByteBuffer.allocateDirect(PAGE_CELLS * CELL_BYTES);
+			this.pages[pageIndex] = page;
+		}
+		return page;
+	}
+
+	private static int offsetOf(int index) {
+		return (index & PAGE_MASK) * CELL_BYTES;
+	}
+
+	/**
+	 * Reads the occupant type of a cell straight from its page
+	 *
+	 * @param index the row-major cell index
+	 * @return the occupant's {@code Variant}, or {@code null} if empty
+	 */
+	public Variant getOccupantType(int index) {
+		ByteBuffer page = pageOf(index, false);
+		int type = page == null
+				? 0
+				: page.get(offsetOf(index) + TYPE_OFFSET);
+
+		return type == 0
+				? null
+				: Variant.values()[type - 1];
+	}
+
+	/**
+	 * @param index the row-major cell index
+	 * @return the occupant id of the cell, or {@code -1} if empty
+	 */
+	public int getOccupantId(int index) {
+		ByteBuffer page = pageOf(index, false);
+		if (page == null || page.get(offsetOf(index) + TYPE_OFFSET) == 0)
+			return -1;
+
+		return page.getInt(offsetOf(index) + ID_OFFSET);
+	}
+
+	/**
+	 * @param index the row-major cell index
+	 * @return the flags byte of the cell
+	 */
+	public byte getFlags(int index) {
+		ByteBuffer page = pageOf(index, false);
+		return page == null
+				? 0
+				: page.get(offsetOf(index) + FLAGS_OFFSET);
+	}
+
+	private int allocateId() {
+		if (this.freeCount > 0)
+			return this.freeIds[--this.freeCount];
+
+		if (this.nextId == this.views.length) {
+			this.views = Arrays.copyOf(this.views, this.views.length * 2);
+			this.freeIds = Arrays.copyOf(this.freeIds, this.views.length);
+		}
+		return this.nextId++;
+	}
+
+	/**
+	 * Writes an occupied cell into its page and keeps its view alive
+	 */
+	private void occupy(int index, Cell cell) {
+		ByteBuffer page = pageOf(index, true);
+		int offset = offsetOf(index);
+
+		if (page.get(offset + TYPE_OFFSET) != 0) {
+			this.views[page.getInt(offset + ID_OFFSET)] = cell;
+			return;
+		}
+
+		int id = allocateId();
+		this.views[id] = cell;
+		this.count++;
+
+		page.put(offset + TYPE_OFFSET, (byte) (cell.getOccupant().getVariant().ordinal() + 1));
+		page.putInt(offset + ID_OFFSET, id);
+	}
+
+	/**
+	 * Clears the occupant of a cell, keeping its flags
+	 *
+	 * @return the released view, or {@code null} if the cell was empty
+	 */
+	private Cell release(int index) {
+		ByteBuffer page = pageOf(index, false);
+		if (page == null)
+			return null;
+
+		int offset = offsetOf(index);
+		if (page.get(offset + TYPE_OFFSET) == 0)
+			return null;
+
+		int id = page.getInt(offset + ID_OFFSET);
+		Cell view = this.views[id];
+
+		this.views[id] = null;
+		this.freeIds[this.freeCount++] = id;
+		this.count--;
+
+		page.put(offset + TYPE_OFFSET, (byte) 0);
+		page.putInt(offset + ID_OFFSET, 0);
+		return view;
+	}
+
+	@Override
+	public Cell get(int x, int y) {
+		int index = indexOf(x, y);
+		if (index == -1)
+			return null;
+
+		int id = getOccupantId(index);
+		return id == -1
+				? null
+				: this.views[id];
+	}
+
+	/**
+	 * Only occupied cells are kept. Storing an empty view is a no-op, since
+	 * its state already lives in the pages.
+	 */
+	@Override
+	public void put(int x, int y, Cell cell) {
+		int index = indexOf(x, y);
+		if (index == -1)
+			throw new Error(String.format("Cannot store cell (%s, %s) outside of off-heap grid", x, y));
+
+		if (cell.getOccupant() != null)
+			occupy(index, cell);
+	}
+
+	@Override
+	public Cell remove(int x, int y) {
+		int index = indexOf(x, y);
+		return index == -1
+				? null
+				: release(index);
+	}
+
+	@Override
+	public boolean accepts(int x, int y) {
+		return indexOf(x, y) != -1;
+	}
+
+	/**
+	 * @return the number of occupied cells
+	 */
+	@Override
+	public int size() {
+		return this.count;
+	}
+
+	/**
+	 * Drops every page; the direct memory behind them is freed once the
+	 * buffers are garbage collected.
+	 */
+	@Override
+	public void clear() {
+		this.pages = new ByteBuffer[this.pages.length];
+		Arrays.fill(this.views, null);
+		this.freeCount = 0;
+		this.nextId = 0;
+		this.count = 0;
+	}
+
+	@Override
+	public void onOccupied(Cell cell) {
+		int index = cell.getIndex();
+		if (index != -1)
+			occupy(index, cell);
+	}
+
+	@Override
+	public void onVacated(Cell cell) {
+		int index = cell.getIndex();
+		if (index != -1)
+			release(index);
+	}
+
+	@Override
+	public void onPathMarked(Cell cell) {
+		int index = cell.getIndex();
+		if (index == -1)
+			return;
+
+		ByteBuffer page = pageOf(index, true);
+		int offset = offsetOf(index) + FLAGS_OFFSET;
+		page.put(offset, (byte) (page.get(offset) | FLAG_PATH));
+	}
+
+	@Override
+	public boolean isPathMarked(int x, int y) {
+		int index = indexOf(x, y);
+		return index != -1 && (getFlags(index) & FLAG_PATH) != 0;
+	}
+
+	/**
+	 * Empty cells are never stored, so there is nothing to collect
+	 */
+	@Override
+	public int collect() {
+		return 0;
+	}
+
+	/**
+	 * @return the number of pages currently allocated
+	 */
+	public int getPageCount() {
+		int allocated = 0;
+		for (ByteBuffer page : this.pages)
+			if (page != null)
+				allocated++;
+
+		return allocated;
+	}
+
+	/**
+	 * Iterates over the occupied cells, in occupant id order
+	 */
+	@Override
+	public Iterator<Cell> iterator() {
+		return new Iterator<Cell>() {
+
+			private int id = 0;
+			private Cell current;
+
+			private boolean seek() {
+				while (this.id < nextId) {
+					if (views[this.id] != null)
+						return true;
+					this.id++;
+				}
+				return false;
+			}
+
+			@Override
+			public boolean hasNext() {
+				return seek();
+			}
+
+			@Override
+			public Cell next() {
+				if (!seek())
+					throw new NoSuchElementException();
+
+				this.current = views[this.id++];
+				return this.current;
+			}
+
+			@Override
+			public void remove() {
+				if (this.current == null)
+					throw new IllegalStateException();
+
+				release(this.current.getIndex());
+				this.current = null;
+			}
+		};
+	}
+}
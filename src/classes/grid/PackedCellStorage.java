@@ -0,0 +1,242 @@
+/*
+ * @written 10/18/2026
+ */
+package classes.grid;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import classes.abstracts.CellStorage;
+import classes.entity.CellGrid.Cell;
+
+/**
+ * A storage backend for sparse or unbounded grids. Cells are kept in an
+ * open-addressing hash table keyed by a packed {@code long}, with the x
+ * component in the high 32 bits and the y component in the low 32 bits, so no
+ * {@code String} keys are ever built.
+ *
+ * <p>
+ * Collisions are resolved with linear probing, and removals use backward-shift
+ * deletion so the table never fills up with tombstones.
+ */
+public class PackedCellStorage extends CellStorage {
+
+	final private static int DEFAULT_CAPACITY = 64;
+
+	private long[] keys;
+	private Cell[] values;
+	private int mask;
+	private int count = 0;
+
+	public PackedCellStorage(int expectedSize) {
+		int capacity = DEFAULT_CAPACITY;
+		while (capacity < expectedSize * 2)
+			capacity <<= 1;
+
+		allocate(capacity);
+	}
+
+	public PackedCellStorage() {
+		this(DEFAULT_CAPACITY / 2);
+	}
+
+	/**
+	 * Packs a cell unit into its {@code long} key
+	 *
+	 * @param x the x component of the cell unit
+	 * @param y the y component of the cell unit
+	 * @return the packed key of {@code (x, y)}
+	 */
+	public static long pack(int x, int y) {
+		return ((long) x << 32) | (y & 0xFFFFFFFFL);
+	}
+
+	/**
+	 * Scrambles a packed key so that neighbouring units do not land in
+	 * neighbouring slots (Murmur3 finalizer)
+	 */
+	private static int hash(long key) {
+		key ^= key >>> 33;
+		key *= 0xff51afd7ed558ccdL;
+		key ^= key >>> 33;
+		key *= 0xc4ceb9fe1a85ec53L;
+		key ^= key >>> 33;
+		return (int) key;
+	}
+
+	private void allocate(int capacity) {
+		this.keys = new long[capacity];
+		this.values = new Cell[capacity];
+		this.mask = capacity - 1;
+	}
+
+	/**
+	 * Finds the slot holding {@code key}
+	 *
+	 * @return the slot index, or {@code -1} if the key is not stored
+	 */
+	private int find(long key) {
+		int slot = hash(key) & this.mask;
+
+		while (this.values[slot] != null) {
+			if (this.keys[slot] == key)
+				return slot;
+			slot = (slot + 1) & this.mask;
+		}
+		return -1;
+	}
+
+	@Override
+	public Cell get(int x, int y) {
+		int slot = find(pack(x, y));
+		return slot == -1
+				? null
+				: this.values[slot];
+	}
+
+	@Override
+	public void put(int x, int y, Cell cell) {
+		if ((this.count + 1) * 2 > this.values.length)
+			resize(this.values.length << 1);
+
+		insert(pack(x, y), cell);
+	}
+
+	private void insert(long key, Cell cell) {
+		int slot = hash(key) & this.mask;
+
+		while (this.values[slot] != null) {
+			if (this.keys[slot] == key) {
+				this.values[slot] = cell;
+				return;
+			}
+			slot = (slot + 1) & this.mask;
+		}
+
+		this.keys[slot] = key;
+		this.values[slot] = cell;
+		this.count++;
+	}
+
+	private void resize(int capacity) {
+		long[] oldKeys = this.keys;
+		Cell[] oldValues = this.values;
+
+		allocate(capacity);
+		this.count = 0;
+
+		for (int slot = 0; slot < oldValues.length; slot++)
+			if (oldValues[slot] != null)
+				insert(oldKeys[slot], oldValues[slot]);
+	}
+
+	@Override
+	public Cell remove(int x, int y) {
+		int slot = find(pack(x, y));
+		if (slot == -1)
+			return null;
+
+		Cell cell = this.values[slot];
+		removeAt(slot);
+		return cell;
+	}
+
+	/**
+	 * Empties {@code slot} and shifts the rest of its probe cluster back so
+	 * that every remaining key is still reachable from its home slot.
+	 */
+	private void removeAt(int slot) {
+		int hole = slot;
+		int next = (hole + 1) & this.mask;
+
+		while (this.values[next] != null) {
+			int home = hash(this.keys[next]) & this.mask;
+
+			// move the entry back if its home slot is not between the hole and itself
+			if (((next - home) & this.mask) >= ((next - hole) & this.mask)) {
+				this.keys[hole] = this.keys[next];
+				this.values[hole] = this.values[next];
+				hole = next;
+			}
+			next = (next + 1) & this.mask;
+		}
+
+		this.values[hole] = null;
+		this.count--;
+	}
+
+	@Override
+	public boolean accepts(int x, int y) {
+		return true;
+	}
+
+	@Override
+	public int size() {
+		return this.count;
+	}
+
+	@Override
+	public void clear() {
+		Arrays.fill(this.values, null);
+		this.count = 0;
+	}
+
+	/**
+	 * The iterator starts right after an empty slot, so no probe cluster wraps
+	 * around the start of the walk. After a {@code remove()} the current slot is
+	 * visited again, since backward-shift deletion may have moved a not yet
+	 * visited entry into it.
+	 */
+	@Override
+	public Iterator<Cell> iterator() {
+		return new Iterator<Cell>() {
+
+			final private int start = findEmptySlot();
+			private int visited = 0;
+			private int current = -1;
+
+			private int findEmptySlot() {
+				for (int slot = 0; slot < values.length; slot++)
+					if (values[slot] == null)
+						return slot;
+				return 0;
+			}
+
+			private int slotAt(int step) {
+				return (this.start + step) & mask;
+			}
+
+			private void seek() {
+				while (this.visited < values.length && values[slotAt(this.visited)] == null)
+					this.visited++;
+			}
+
+			@Override
+			public boolean hasNext() {
+				seek();
+				return this.visited < values.length;
+			}
+
+			@Override
+			public Cell next() {
+				if (!hasNext())
+					throw new NoSuchElementException();
+
+				this.current = slotAt(this.visited);
+				this.visited++;
+				return values[this.current];
+			}
+
+			@Override
+			public void remove() {
+				if (this.current == -1)
+					throw new IllegalStateException();
+
+				removeAt(this.current);
+				this.current = -1;
+				this.visited--;
+			}
+		};
+	}
+}
@@ -3,7 +3,9 @@
  */
 package classes.settings;
 
+import classes.abstracts.Properties.Variant;
 import classes.entity.Unit2;
+import java.util.EnumMap;
 import java.util.HashMap;
 
 public class GameSettings {
@@ -15,6 +17,17 @@ public class GameSettings {
 	private Unit2 gridSize;
 	private int initialAnts;
 	private int initialDoodlebugs;
+	private GridStorageType gridStorageType;
+	private BoundaryMode boundaryMode;
+	private PartitionStrategy partitionStrategy;
+	private int partitionSize;
+	private long seed;
+	private boolean neighborTablesEnabled;
+	private boolean entityStoreEnabled;
+	private int entityPoolCapacity;
+	private boolean actionSchedulingEnabled;
+	private boolean frameThreadsEnabled;
+	final private EnumMap<Variant, Neighborhood> neighborhoods = new EnumMap<>(Variant.class);
 
 	final private int screenWidth;
 	final private int screenHeight;
@@ -38,6 +51,21 @@ public class GameSettings {
 		this.gridSize = new Unit2(20, 20); // Cell units
 		this.initialAnts = 100;
 		this.initialDoodlebugs = 5;
+		this.gridStorageType = GridStorageType.DENSE; // How CellGrid stores its cells
+		this.boundaryMode = BoundaryMode.BOUNDED; // What lies past the edges of the grid
+		this.partitionStrategy = PartitionStrategy.CHECKERBOARD; // How movement ticks are split across cores
+		this.partitionSize = 32; // Cell units across each partition (at least 3)
+		this.seed = System.nanoTime(); // Every random draw of a run derives from this
+		this.neighborTablesEnabled = true; // Precompute neighbour indices for the grid
+		this.entityStoreEnabled = true; // Keep bug state in primitive columns by entity id
+		this.entityPoolCapacity = 65536; // Dead bugs kept per species for reuse (0 disables)
+		this.actionSchedulingEnabled = false; // Only tick bugs when their movement cooldown is up
+		this.frameThreadsEnabled = true; // Run each RunService frame on its own thread at its own FPS
+
+		// Which cells each species considers adjacent when moving and breeding
+		this.neighborhoods.put(Variant.ANT, Neighborhood.VON_NEUMANN);
+		this.neighborhoods.put(Variant.DOODLEBUG, Neighborhood.VON_NEUMANN);
+		this.neighborhoods.put(Variant.TITAN, Neighborhood.VON_NEUMANN);
 
 		this.canSpawnTitan = false;
 
@@ -56,6 +84,81 @@ public class GameSettings {
 		SIMULATED_LAG,
 	}
 
+	/**
+	 * The storage backends available to {@code CellGrid}
+	 *
+	 * <ul>
+	 * <li>{@code HASH} - <i>cells are kept in a hashmap keyed by their serialized
+	 * unit</i></li>
+	 * <li>{@code DENSE} - <i>cells are kept in a flat row-major array, only for
+	 * in-bounds units</i></li>
+	 * <li>{@code PACKED} - <i>cells are kept in an open-addressing hash table
+	 * keyed by the packed {@code long} of their unit, for sparse or unbounded
+	 * grids</i></li>
+	 * <li>{@code CHUNKED} - <i>cells are allocated in 32x32 tiles that are freed
+	 * as a whole once they hold no occupants, for huge and mostly empty
+	 * grids</i></li>
+	 * <li>{@code OFF_HEAP} - <i>cell state is packed into direct memory pages
+	 * and only occupied cells keep a {@code Cell} object, for worlds of
+	 * {@code 10^8} cells. Disables the free-cell index and neighbour
+	 * tables</i></li>
+	 * </ul>
+	 */
+	public enum GridStorageType {
+		HASH,
+		DENSE,
+		PACKED,
+		CHUNKED,
+		OFF_HEAP,
+	}
+
+	/**
+	 * What the grid does at its edges
+	 *
+	 * <ul>
+	 * <li>{@code BOUNDED} - <i>the grid ends at its edges, and anything past
+	 * them is out of bounds</i></li>
+	 * <li>{@code TOROIDAL} - <i>each edge wraps around to the opposite one, so
+	 * every cell has a full set of neighbours</i></li>
+	 * </ul>
+	 */
+	public enum BoundaryMode {
+		BOUNDED,
+		TOROIDAL,
+	}
+
+	/**
+	 * How a movement tick is split up to run across cores
+	 *
+	 * <ul>
+	 * <li>{@code NONE} - <i>the whole tick runs on the calling thread</i></li>
+	 * <li>{@code STRIPES} - <i>full-width bands of {@code partitionSize}
+	 * rows</i></li>
+	 * <li>{@code CHECKERBOARD} - <i>square blocks of {@code partitionSize}
+	 * cells across, which have less boundary per cell than stripes on large
+	 * grids</i></li>
+	 * </ul>
+	 */
+	public enum PartitionStrategy {
+		NONE,
+		STRIPES,
+		CHECKERBOARD,
+	}
+
+	/**
+	 * The neighbourhoods a species can move and breed in
+	 *
+	 * <ul>
+	 * <li>{@code VON_NEUMANN} - <i>the four orthogonally adjacent cells</i></li>
+	 * <li>{@code MOORE} - <i>all eight surrounding cells, including
+	 * diagonals</i></li>
+	 * </ul>
+	 */
+	public enum Neighborhood {
+		VON_NEUMANN,
+		MOORE,
+	}
+
 	public class DebugInfo {
 
 		private String primaryColor;
@@ -227,6 +330,50 @@ public class GameSettings {
 		return this.initialDoodlebugs;
 	}
 
+	public GridStorageType getGridStorageType() {
+		return this.gridStorageType;
+	}
+
+	public BoundaryMode getBoundaryMode() {
+		return this.boundaryMode;
+	}
+
+	public PartitionStrategy getPartitionStrategy() {
+		return this.partitionStrategy;
+	}
+
+	public int getPartitionSize() {
+		return this.partitionSize;
+	}
+
+	public long getSeed() {
+		return this.seed;
+	}
+
+	public boolean isNeighborTablesEnabled() {
+		return this.neighborTablesEnabled;
+	}
+
+	public boolean isEntityStoreEnabled() {
+		return this.entityStoreEnabled;
+	}
+
+	public int getEntityPoolCapacity() {
+		return this.entityPoolCapacity;
+	}
+
+	public boolean isActionSchedulingEnabled() {
+		return this.actionSchedulingEnabled;
+	}
+
+	public boolean isFrameThreadsEnabled() {
+		return this.frameThreadsEnabled;
+	}
+
+	public Neighborhood getNeighborhood(Variant variant) {
+		return this.neighborhoods.get(variant);
+	}
+
 	public boolean canSpawnTitan() {
 		return this.canSpawnTitan;
 	}
@@ -250,6 +397,50 @@ public class GameSettings {
 		this.gridSize = gridSize;
 	}
 
+	public void setGridStorageType(GridStorageType gridStorageType) {
+		this.gridStorageType = gridStorageType;
+	}
+
+	public void setBoundaryMode(BoundaryMode boundaryMode) {
+		this.boundaryMode = boundaryMode;
+	}
+
+	public void setPartitionStrategy(PartitionStrategy partitionStrategy) {
+		this.partitionStrategy = partitionStrategy;
+	}
+
+	public void setPartitionSize(int partitionSize) {
+		this.partitionSize = partitionSize;
+	}
+
+	public void setSeed(long seed) {
+		this.seed = seed;
+	}
+
+	public void setNeighborTablesEnabled(boolean enabled) {
+		this.neighborTablesEnabled = enabled;
+	}
+
+	public void setEntityStoreEnabled(boolean enabled) {
+		this.entityStoreEnabled = enabled;
+	}
+
+	public void setEntityPoolCapacity(int entityPoolCapacity) {
+		this.entityPoolCapacity = entityPoolCapacity;
+	}
+
+	public void setActionSchedulingEnabled(boolean enabled) {
+		this.actionSchedulingEnabled = enabled;
+	}
+
+	public void setFrameThreadsEnabled(boolean enabled) {
+		this.frameThreadsEnabled = enabled;
+	}
+
+	public void setNeighborhood(Variant variant, Neighborhood neighborhood) {
+		this.neighborhoods.put(variant, neighborhood);
+	}
+
 	public int getScreenAspectRatio() {
 		return screenAspectRatio;
 	}
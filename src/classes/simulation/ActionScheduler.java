@@ -0,0 +1,157 @@
+/*
+ * @written 10/18/2026
+ */
+package classes.simulation;
+
+import java.util.Arrays;
+
+import classes.abstracts.Bug;
+import classes.abstracts.Entity;
+import classes.abstracts.Properties.Variant;
+import classes.grid.EntityRegistry;
+
+/**
+ * A calendar queue of the ticks on which bugs act next, so that a tick only
+ * visits the bugs that are due instead of the whole population.
+ *
+ * <p>
+ * Entries live in a ring of {@link #BUCKETS} buckets, bucket
+ * {@code tick % BUCKETS} holding every bug due on that tick, or on a tick a
+ * whole number of laps later. Draining a tick only walks its own bucket and
+ * keeps the entries of later laps where they are.
+ *
+ * <p>
+ * Nothing is removed when a bug dies. Every entry carries the stamp
+ * {@link Bug#schedule} returned, and is dropped when drained if the bug has
+ * since been rescheduled, recycled, or removed from the grid.
+ *
+ * <p>
+ * Bugs are normally scheduled by the tick pipeline. Bugs that get registered
+ * some other way, such as the initial population, are picked up by
+ * {@link #sync} with a rebuild from the registry.
+ */
+public class ActionScheduler {
+
+	final public static int BUCKETS = 256;
+	final private static int BUCKET_MASK = BUCKETS - 1;
+
+	final private Bug<?>[][] bugs = new Bug<?>[BUCKETS][8];
+	final private int[][] stamps = new int[BUCKETS][8];
+	final private int[] counts = new int[BUCKETS];
+
+	private Bug<?>[] due = new Bug<?>[64];
+	private int dueCount = 0;
+
+	private long seenRegistrations = -1;
+
+	/**
+	 * Schedules a bug to act on {@code tick}, replacing any earlier schedule
+	 */
+	public void schedule(Bug<?> bug, long tick) {
+		int stamp = bug.schedule(tick);
+		int bucket = (int) (tick & BUCKET_MASK);
+		int count = this.counts[bucket]++;
+
+		if (count == this.bugs[bucket].length) {
+			this.bugs[bucket] = Arrays.copyOf(this.bugs[bucket], count * 2);
+			this.stamps[bucket] = Arrays.copyOf(this.stamps[bucket], count * 2);
+		}
+
+		this.bugs[bucket][count] = bug;
+		this.stamps[bucket][count] = stamp;
+	}
+
+	/**
+	 * Schedules a bug that was just registered on the grid
+	 */
+	public void adopt(Bug<?> bug, long tick) {
+		schedule(bug, tick);
+		this.seenRegistrations++;
+	}
+
+	/**
+	 * Rebuilds the queue from the registry if entities were registered
+	 * without going through {@link #adopt}. Bugs keep their next action tick
+	 * if it is still ahead, and are otherwise due on {@code tick}.
+	 */
+	public void sync(EntityRegistry registry, long tick) {
+		if (registry.getRegistrationCount() == this.seenRegistrations)
+			return;
+
+		Arrays.fill(this.counts, 0);
+		for (Bug<?>[] bucket : this.bugs)
+			Arrays.fill(bucket, null);
+
+		for (Variant variant : Variant.values()) {
+			for (int position = 0; position < registry.size(variant); position++) {
+				Entity<?> entity = registry.get(variant, position);
+
+				if (entity instanceof Bug) {
+					Bug<?> bug = (Bug<?>) entity;
+					schedule(bug, Math.max(tick, bug.getNextActionTick()));
+				}
+			}
+		}
+		this.seenRegistrations = registry.getRegistrationCount();
+	}
+
+	/**
+	 * Takes every live bug due on {@code tick} out of the queue, into the
+	 * list read by {@link #getDue}
+	 *
+	 * @return the number of bugs due
+	 */
+	public int drain(long tick) {
+		int bucket = (int) (tick & BUCKET_MASK);
+		Bug<?>[] entries = this.bugs[bucket];
+		int[] entryStamps = this.stamps[bucket];
+		int count = this.counts[bucket];
+		int kept = 0;
+
+		this.dueCount = 0;
+		for (int i = 0; i < count; i++) {
+			Bug<?> bug = entries[i];
+			if (entryStamps[i] != bug.getScheduleStamp() || bug.getEntityId() == -1)
+				continue;
+
+			if (bug.getNextActionTick() <= tick) {
+				addDue(bug);
+			} else {
+				entries[kept] = bug;
+				entryStamps[kept] = entryStamps[i];
+				kept++;
+			}
+		}
+
+		Arrays.fill(entries, kept, count, null);
+		this.counts[bucket] = kept;
+		return this.dueCount;
+	}
+
+	private void addDue(Bug<?> bug) {
+		if (this.dueCount == this.due.length)
+			this.due = Arrays.copyOf(this.due, this.dueCount * 2);
+
+		this.due[this.dueCount++] = bug;
+	}
+
+	/**
+	 * @param i a position from {@code 0} to the last result of {@link #drain}
+	 *          minus one
+	 * @return a bug due on the drained tick
+	 */
+	public Bug<?> getDue(int i) {
+		return this.due[i];
+	}
+
+	/**
+	 * @return the number of entries in the queue, including stale ones
+	 */
+	public int size() {
+		int total = 0;
+		for (int count : this.counts)
+			total += count;
+
+		return total;
+	}
+}
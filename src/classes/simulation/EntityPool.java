@@ -0,0 +1,130 @@
+/*
+ * @written 10/18/2026
+ */
+package classes.simulation;
+
+import java.util.Arrays;
+
+import classes.abstracts.Bug;
+import classes.abstracts.Properties.Variant;
+
+/**
+ * Recycles bugs that died so that births can reuse them instead of
+ * allocating, which keeps the allocation rate flat through population booms
+ * and busts.
+ *
+ * <p>
+ * There is one stack of free bugs per {@code Variant}, each holding at most
+ * {@code capacity} bugs; anything past that is left to the garbage collector.
+ * Bugs that die during a tick may still be referenced by that tick, so they are
+ * only queued with {@link #releaseLater} and returned to their stacks by
+ * {@link #flush()} once the tick is over.
+ */
+public class EntityPool {
+
+	final private int capacity;
+
+	final private Bug<?>[][] free;
+	final private int[] freeCounts;
+	final private long[] hits;
+	final private long[] misses;
+
+	private Bug<?>[] pending = new Bug<?>[64];
+	private int pendingCount = 0;
+
+	/**
+	 * @param capacity the most free bugs kept per variant, or {@code 0} to
+	 *                 disable pooling
+	 */
+	public EntityPool(int capacity) {
+		if (capacity < 0)
+			throw new Error("Pool capacity cannot be negative");
+
+		int variants = Variant.values().length;
+		this.capacity = capacity;
+		this.free = new Bug<?>[variants][16];
+		this.freeCounts = new int[variants];
+		this.hits = new long[variants];
+		this.misses = new long[variants];
+	}
+
+	/**
+	 * Gets a fresh bug of the same species as {@code parent}, recycled if one
+	 * is free
+	 *
+	 * @param parent the bug giving birth
+	 * @return a reset bug that is not on any grid
+	 */
+	public Bug<?> acquire(Bug<?> parent) {
+		int variant = parent.getVariant().ordinal();
+
+		if (this.freeCounts[variant] == 0) {
+			this.misses[variant]++;
+			return parent.createOffspring();
+		}
+
+		Bug<?> bug = this.free[variant][--this.freeCounts[variant]];
+		this.free[variant][this.freeCounts[variant]] = null;
+		this.hits[variant]++;
+
+		bug.reset();
+		return bug;
+	}
+
+	/**
+	 * Queues a dead bug to be recycled at the next {@link #flush()}
+	 *
+	 * @param bug a bug that was removed from its grid
+	 */
+	public void releaseLater(Bug<?> bug) {
+		if (bug.hasCell() || bug.getEntityId() != -1)
+			throw new Error("Cannot pool a bug that is still on the grid");
+
+		if (this.pendingCount == this.pending.length)
+			this.pending = Arrays.copyOf(this.pending, this.pendingCount * 2);
+
+		this.pending[this.pendingCount++] = bug;
+	}
+
+	/**
+	 * Returns every queued bug to its stack
+	 */
+	public void flush() {
+		for (int i = 0; i < this.pendingCount; i++) {
+			Bug<?> bug = this.pending[i];
+			int variant = bug.getVariant().ordinal();
+			int count = this.freeCounts[variant];
+
+			if (count < this.capacity) {
+				if (count == this.free[variant].length)
+					this.free[variant] = Arrays.copyOf(this.free[variant], Math.min(count * 2, this.capacity));
+
+				this.free[variant][count] = bug;
+				this.freeCounts[variant]++;
+			}
+			this.pending[i] = null;
+		}
+		this.pendingCount = 0;
+	}
+
+	/**
+	 * @return how many births of {@code variant} reused a pooled bug
+	 */
+	public long getHits(Variant variant) {
+		return this.hits[variant.ordinal()];
+	}
+
+	/**
+	 * @return how many births of {@code variant} had to allocate a new bug
+	 */
+	public long getMisses(Variant variant) {
+		return this.misses[variant.ordinal()];
+	}
+
+	/**
+	 * @return how many free bugs of {@code variant} are waiting for reuse
+	 */
+	public int size(Variant variant) {
+		return this.freeCounts[variant.ordinal()];
+	}
+}
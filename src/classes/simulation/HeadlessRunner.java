@@ -0,0 +1,212 @@
+/*
+ * @written 10/18/2026
+ */
+package classes.simulation;
+
+import java.util.function.Predicate;
+
+import classes.abstracts.Properties.Variant;
+import classes.entity.CellGrid;
+import classes.entity.Game;
+import classes.entity.Unit2;
+import classes.settings.GameSettings;
+import classes.simulation.TickPipeline.Phase;
+import classes.util.Console;
+import classes.util.Time;
+
+/**
+ * Runs the simulation without a screen, stepping the {@code MovementFrame} as
+ * fast as it can instead of at the frame rate, for batch runs on machines
+ * without a display.
+ *
+ * <p>
+ * A run stops after a set number of generations, once a stop condition holds,
+ * or once a time limit passes, whichever comes first. The runner reports
+ * generations per second while it runs and the final statistics once it is
+ * done.
+ *
+ * <p>
+ * Options are read from the program arguments:
+ *
+ * <ul>
+ * <li>{@code --headless} - <i>run headless at all</i></li>
+ * <li>{@code --generations=N} - <i>stop after {@code N} generations, or never
+ * if {@code 0}</i></li>
+ * <li>{@code --until-extinct} - <i>stop once ants or doodlebugs die
+ * out</i></li>
+ * <li>{@code --max-seconds=S} - <i>stop after {@code S} seconds</i></li>
+ * <li>{@code --report-every=N} - <i>print progress every {@code N}
+ * generations</i></li>
+ * <li>{@code --size=N}, {@code --ants=N}, {@code --doodlebugs=N},
+ * {@code --seed=N} - <i>override the matching game settings</i></li>
+ * </ul>
+ */
+public class HeadlessRunner {
+
+	private long generationLimit = 1000;
+	private double maxSeconds = 0;
+	private long reportInterval = 0;
+	private Predicate<CellGrid> stopCondition = grid -> false;
+
+	private long generations = 0;
+	private long elapsedNanos = 0;
+	private String stopReason = "not started";
+
+	/**
+	 * @return true if {@code args} ask for a headless run
+	 */
+	public static boolean isRequested(String[] args) {
+		for (String arg : args)
+			if (arg.equals("--headless"))
+				return true;
+
+		return false;
+	}
+
+	/**
+	 * Creates a runner from the program arguments, applying the setting
+	 * overrides among them to {@code settings}
+	 *
+	 * @throws Error if an argument is not recognised
+	 */
+	public static HeadlessRunner fromArgs(GameSettings settings, String[] args) {
+		HeadlessRunner runner = new HeadlessRunner();
+
+		for (String arg : args) {
+			String[] pair = arg.split("=", 2);
+			String value = pair.length == 2
+					? pair[1]
+					: "";
+
+			switch (pair[0]) {
+				case "--headless":
+					break;
+				case "--generations":
+					runner.setGenerationLimit(Long.parseLong(value));
+					break;
+				case "--until-extinct":
+					runner.setStopCondition(grid -> grid.getPopulation(Variant.ANT) == 0
+							|| grid.getPopulation(Variant.DOODLEBUG) == 0);
+					break;
+				case "--max-seconds":
+					runner.setMaxSeconds(Double.parseDouble(value));
+					break;
+				case "--report-every":
+					runner.setReportInterval(Long.parseLong(value));
+					break;
+				case "--size":
+					int size = Integer.parseInt(value);
+					settings.setGridSize(new Unit2(size, size));
+					break;
+				case "--ants":
+					settings.setInitialAnts(Integer.parseInt(value));
+					break;
+				case "--doodlebugs":
+					settings.setInitialDoodlebugs(Integer.parseInt(value));
+					break;
+				case "--seed":
+					settings.setSeed(Long.parseLong(value));
+					break;
+				default:
+					throw new Error("Unknown headless option: " + arg);
+			}
+		}
+		return runner;
+	}
+
+	/**
+	 * Steps the movement frame of {@code game} until the run is over. The
+	 * game grid and run services must already be initialized.
+	 */
+	public void run(Game game) {
+		MovementFrame frame = game.getMovementFrame();
+		CellGrid grid = game.getGameGrid();
+		long maxNanos = Time.secondsToNano(this.maxSeconds);
+		long start = Time.tick();
+		long lastReport = start;
+
+		this.generations = 0;
+		this.stopReason = "generation limit reached";
+
+		while (this.generationLimit == 0 || this.generations < this.generationLimit) {
+			if (this.stopCondition.test(grid)) {
+				this.stopReason = "stop condition met";
+				break;
+			}
+
+			frame.step(0);
+			this.generations++;
+			this.elapsedNanos = Time.tick() - start;
+
+			if (maxNanos > 0 && this.elapsedNanos >= maxNanos) {
+				this.stopReason = "time limit reached";
+				break;
+			}
+
+			if (this.reportInterval > 0 && this.generations % this.reportInterval == 0) {
+				long now = Time.tick();
+				Console.println(String.format(
+						"generation %d: %.1f generations/s, %d ants, %d doodlebugs",
+						this.generations,
+						this.reportInterval / Time.nanoToSeconds(now - lastReport),
+						grid.getPopulation(Variant.ANT),
+						grid.getPopulation(Variant.DOODLEBUG)));
+				lastReport = now;
+			}
+		}
+	}
+
+	/**
+	 * @return the final statistics of the last run
+	 */
+	public String report() {
+		Game game = Game.getInstance();
+		CellGrid grid = game.getGameGrid();
+		TickPipeline pipeline = game.getMovementFrame().getPipeline();
+		StringBuilder report = new StringBuilder();
+
+		report.append(String.format("Stopped after %d generations (%s)%n", this.generations, this.stopReason));
+		report.append(String.format("Elapsed: %.3f seconds, %.1f generations/s%n",
+				Time.nanoToSeconds(this.elapsedNanos),
+				getGenerationsPerSecond()));
+		report.append(String.format("Seed: %d%n", game.getSettings().getSeed()));
+
+		for (Variant variant : Variant.values())
+			report.append(String.format("%s: %d alive, %d pooled births, %d allocated births%n",
+					variant,
+					grid.getPopulation(variant),
+					pipeline.getPool().getHits(variant),
+					pipeline.getPool().getMisses(variant)));
+
+		for (Phase phase : Phase.values())
+			report.append(String.format("%s: %.3f ms per generation%n", phase, pipeline.getAverageMillis(phase)));
+
+		return report.toString();
+	}
+
+	public double getGenerationsPerSecond() {
+		return this.elapsedNanos == 0
+				? 0
+				: this.generations / Time.nanoToSeconds(this.elapsedNanos);
+	}
+
+	public long getGenerations() {
+		return this.generations;
+	}
+
+	public void setGenerationLimit(long generationLimit) {
+		this.generationLimit = generationLimit;
+	}
+
+	public void setMaxSeconds(double maxSeconds) {
+		this.maxSeconds = maxSeconds;
+	}
+
+	public void setReportInterval(long reportInterval) {
+		this.reportInterval = reportInterval;
+	}
+
+	public void setStopCondition(Predicate<CellGrid> stopCondition) {
+		this.stopCondition = stopCondition;
+	}
+}
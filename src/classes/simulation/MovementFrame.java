@@ -6,6 +6,7 @@ package classes.simulation;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.concurrent.ForkJoinPool;
 
 import classes.abstracts.Bug;
 import classes.abstracts.Entity;
@@ -19,6 +20,8 @@ import classes.entity.Game;
 import classes.entity.Titan;
 import classes.entity.TweenData;
 import classes.entity.Vector2;
+import classes.settings.GameSettings;
+import classes.settings.GameSettings.PartitionStrategy;
 import classes.settings.GameSettings.SimulationType;
 import classes.util.Console;
 import classes.util.Math2;
@@ -35,9 +38,27 @@ public class MovementFrame extends RunService {
 
 	@SuppressWarnings("unused")
 	private Game game = Game.getInstance();
+	final private TickPipeline pipeline;
+	final private SnapshotExchange snapshots = new SnapshotExchange();
 
 	public MovementFrame(SimulationType simulationFrame) {
 		super(simulationFrame);
+
+		// Random streams follow the partitions, so a single core still walks
+		// them, just in order on this thread, to replay the same seeded run
+		GameSettings settings = game.getSettings();
+		this.pipeline = new TickPipeline(settings.getPartitionStrategy() == PartitionStrategy.NONE
+				? null
+				: new TickPartitioner(
+						Runtime.getRuntime().availableProcessors() == 1
+								? null
+								: ForkJoinPool.commonPool(),
+						settings.getPartitionStrategy(),
+						settings.getPartitionSize()),
+				new EntityPool(settings.getEntityPoolCapacity()),
+				settings.isActionSchedulingEnabled()
+						? new ActionScheduler()
+						: null);
 	}
 
 	@Override
@@ -45,14 +66,22 @@ public class MovementFrame extends RunService {
 		CellGrid grid = game.getGameGrid();
 		grid.collectCells();
 
-		for (Cell cell : grid.getGrid().values()) {
-			Entity<?> entity = cell.getOccupant();
+		this.pipeline.run(grid);
+		this.snapshots.publish(grid, this.pipeline.getTickCount());
+	}
 
-			if (entity instanceof Bug) {
-				Bug<?> bug = (Bug<?>) entity;
-				bug.move();
-			}
-		}
+	/**
+	 * @return the pipeline that runs every tick, with its phase timings
+	 */
+	public TickPipeline getPipeline() {
+		return this.pipeline;
+	}
 
+	/**
+	 * @return the exchange that the grid state is published through after
+	 *         every tick, for readers on other threads
+	 */
+	public SnapshotExchange getSnapshots() {
+		return this.snapshots;
 	}
 }
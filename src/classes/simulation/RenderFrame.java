@@ -4,7 +4,6 @@
 package classes.simulation;
 
 import classes.abstracts.RunService;
-import classes.entity.CellGrid;
 import classes.entity.Game;
 import classes.settings.GameSettings.SimulationType;
 import classes.util.Console;
@@ -18,6 +17,7 @@ public class RenderFrame extends RunService {
 
 	@SuppressWarnings("unused")
 	private Game game = Game.getInstance();
+	private long renderedVersion = 0;
 
 	public RenderFrame(SimulationType simulationFrame) {
 		super(simulationFrame);
@@ -25,7 +25,13 @@ public class RenderFrame extends RunService {
 
 	@Override
 	public void step(double deltaTimeSeconds) {
-		CellGrid grid = game.getGameGrid();
+		// The screen draws the latest published snapshot, so there is nothing
+		// new to draw until the movement frame publishes another one
+		long version = game.getMovementFrame().getSnapshots().getVersion();
+		if (version == this.renderedVersion)
+			return;
+
+		this.renderedVersion = version;
 		// Console.println(grid.toASCII());
 		game.getScreen().repaintGrid();
 	}
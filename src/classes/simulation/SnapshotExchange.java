@@ -0,0 +1,88 @@
+/*
+ * @written 10/18/2026
+ */
+package classes.simulation;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import classes.entity.CellGrid;
+import classes.grid.GridSnapshot;
+import classes.grid.OccupancyBitset;
+
+/**
+ * Hands the grid state from the simulation thread to its readers, such as the
+ * screen, without any locks.
+ *
+ * <p>
+ * The simulation publishes a fresh {@link GridSnapshot} after each tick by
+ * swapping a single reference, and readers always take whichever snapshot is
+ * the latest. Neither side ever waits on the other: a slow reader only misses
+ * versions, and never holds the simulation back. Snapshots are never reused,
+ * so a reader can keep one for as long as it needs.
+ *
+ * <p>
+ * Publishing copies the occupancy bitsets, so the exchange stays closed, and
+ * {@link #publish} does nothing, until something that reads it calls
+ * {@link #open}. The first snapshot is then published by the next tick, on
+ * the simulation thread, since no other thread may read the live grid.
+ */
+public class SnapshotExchange {
+
+	final private AtomicReference<GridSnapshot> latest = new AtomicReference<>();
+	private volatile boolean open = false;
+
+	/**
+	 * Starts publishing snapshots from the next tick on. Safe to call from
+	 * any thread.
+	 */
+	public void open() {
+		this.open = true;
+	}
+
+	/**
+	 * Publishes a snapshot of {@code grid} as the next version, if the
+	 * exchange is open. Must be called from the thread that writes the grid.
+	 * Versions are assigned atomically, so every published snapshot gets a
+	 * version of its own.
+	 */
+	public void publish(CellGrid grid, long tick) {
+		if (!this.open)
+			return;
+
+		int columns = grid.getSize().getX();
+		int rows = grid.getSize().getY();
+		OccupancyBitset occupancy = grid.getOccupancy().copy();
+
+		this.latest.updateAndGet(previous -> new GridSnapshot(
+				previous == null
+						? 1
+						: previous.getVersion() + 1,
+				tick,
+				columns,
+				rows,
+				occupancy));
+	}
+
+	/**
+	 * @return the most recently published snapshot, or {@code null} if none
+	 *         has been published yet
+	 */
+	public GridSnapshot getLatest() {
+		return this.latest.get();
+	}
+
+	/**
+	 * @return the version of the latest snapshot, or {@code 0} if none has
+	 *         been published yet
+	 */
+	public long getVersion() {
+		GridSnapshot snapshot = this.latest.get();
+		return snapshot == null
+				? 0
+				: snapshot.getVersion();
+	}
+
+	public boolean isOpen() {
+		return this.open;
+	}
+}
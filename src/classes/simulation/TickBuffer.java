@@ -0,0 +1,410 @@
+/*
+ * @written 10/18/2026
+ */
+package classes.simulation;
+
+import java.util.Arrays;
+
+import classes.abstracts.Bug;
+import classes.abstracts.Entity;
+import classes.abstracts.Properties.Variant;
+import classes.entity.CellGrid;
+import classes.grid.EntityRegistry;
+import classes.grid.EntityStore;
+import classes.grid.OccupancyBitset;
+
+/**
+ * The write side of a double-buffered movement tick.
+ *
+ * <p>
+ * A tick runs in three phases. While the bugs {@link Bug#plan plan}, the grid
+ * is the read buffer: nothing on it changes, and every bug sees the state of
+ * the previous tick. Their intents are recorded here as claims on target
+ * cells. {@link #resolve()} then settles every contested cell, and finally each
+ * bug {@link Bug#commit commits} the outcome it was granted, which is the only
+ * point at which the grid is written.
+ *
+ * <p>
+ * Conflicts are settled by action priority, {@code EAT > MOVE}, with ties
+ * going to the actor whose source cell has the lowest index. Actors are
+ * snapshotted in cell index order at the start of the tick, so the outcome
+ * does not depend on storage or iteration order. A bug that gets eaten is
+ * marked doomed and all of its own claims are dropped.
+ *
+ * <p>
+ * A bug that means to breed only says so with {@link #claimBirth}. Its
+ * offspring goes next to the cell it ends the tick in, so that cell is picked
+ * while committing, once every move is done.
+ */
+public class TickBuffer {
+
+	public enum Action {
+		EAT,
+		MOVE,
+		NONE,
+	}
+
+	final private static Action[] ACTIONS = Action.values();
+	final private static Variant[] VARIANTS = Variant.values();
+
+	/*
+	 * Grids with fewer than one live entity per this many cells are
+	 * snapshotted from the registry rather than the occupancy bitset
+	 */
+	final private static int SPARSE_RATIO = 64;
+
+	private long number = -1;
+	private long[] keys = new long[64];
+
+	private Bug<?>[] actors = new Bug<?>[64];
+	private int[] sources = new int[64];
+	private int actorCount = 0;
+
+	/*
+	 * Planned claims, one action per actor, and whether it means to breed
+	 */
+	private byte[] plannedAction = new byte[64];
+	private int[] plannedTarget = new int[64];
+	private boolean[] plannedBirth = new boolean[64];
+
+	/*
+	 * Resolution results
+	 */
+	private byte[] grantedAction = new byte[64];
+	private boolean[] doomed = new boolean[64];
+
+	/*
+	 * Claims packed as (target << 32) | (action << 30) | actor, so that
+	 * sorting them groups every target together in priority order
+	 */
+	private long[] claims = new long[128];
+	private int claimCount = 0;
+
+	/**
+	 * Starts a new tick by snapshotting every bug on the grid, in ascending
+	 * cell index order.
+	 *
+	 * <p>
+	 * Bugs are found through whichever active set is cheaper for the grid's
+	 * occupancy: on sparse grids, the live entities of its
+	 * {@code EntityRegistry}, sorted by cell index; otherwise, a scan of its
+	 * {@code OccupancyBitset}. Either way the cost follows the population
+	 * rather than the number of stored cells, and both give the same order.
+	 *
+	 * @param grid the grid the tick runs on
+	 */
+	public void begin(CellGrid grid) {
+		begin(grid, null);
+	}
+
+	/**
+	 * Starts a new tick with only the bugs {@code scheduler} has due on it, in
+	 * ascending cell index order. Bugs that are not due keep their cells but
+	 * make no claims, and cannot be doomed.
+	 *
+	 * @param grid      the grid the tick runs on
+	 * @param scheduler the scheduler to drain, or {@code null} to snapshot
+	 *                  every bug
+	 */
+	public void begin(CellGrid grid, ActionScheduler scheduler) {
+		this.number++;
+		this.actorCount = 0;
+		this.claimCount = 0;
+
+		if (scheduler != null)
+			snapshotScheduled(grid, scheduler);
+		else if ((long) grid.getEntityRegistry().size() * SPARSE_RATIO < grid.getArea())
+			snapshotRegistry(grid);
+		else
+			snapshotOccupancy(grid);
+
+		Arrays.fill(this.plannedAction, 0, this.actorCount, (byte) Action.NONE.ordinal());
+		Arrays.fill(this.plannedBirth, 0, this.actorCount, false);
+		Arrays.fill(this.grantedAction, 0, this.actorCount, (byte) Action.NONE.ordinal());
+		Arrays.fill(this.doomed, 0, this.actorCount, false);
+	}
+
+	private void snapshotOccupancy(CellGrid grid) {
+		OccupancyBitset occupancy = grid.getOccupancy();
+
+		for (int index = occupancy.nextOccupied(0); index != -1; index = occupancy.nextOccupied(index + 1)) {
+			Entity<?> occupant = grid.getOccupantAt(index);
+
+			if (occupant instanceof Bug)
+				addActor((Bug<?>) occupant, index);
+		}
+	}
+
+	/**
+	 * Collects the registered bugs as keys packed as (cell index << 32) | id,
+	 * so that sorting the keys puts the bugs in cell index order
+	 */
+	private void snapshotRegistry(CellGrid grid) {
+		EntityRegistry registry = grid.getEntityRegistry();
+		EntityStore store = registry.getStore();
+		int keyCount = 0;
+
+		if (this.keys.length < registry.size())
+			this.keys = new long[registry.size()];
+
+		for (Variant variant : VARIANTS) {
+			for (int position = 0; position < registry.size(variant); position++) {
+				Entity<?> entity = registry.get(variant, position);
+				if (!(entity instanceof Bug))
+					continue;
+
+				int id = entity.getEntityId();
+				int index = store != null
+						? store.getCell(id)
+						: entity.getCell().getIndex();
+
+				this.keys[keyCount++] = ((long) index << 32) | id;
+			}
+		}
+
+		Arrays.sort(this.keys, 0, keyCount);
+		for (int i = 0; i < keyCount; i++) {
+			long key = this.keys[i];
+			addActor((Bug<?>) registry.get((int) key), (int) (key >>> 32));
+		}
+	}
+
+	/**
+	 * Takes the due bugs out of the scheduler, sorted like
+	 * {@link #snapshotRegistry} but with their due list position in place of
+	 * their id
+	 */
+	private void snapshotScheduled(CellGrid grid, ActionScheduler scheduler) {
+		EntityStore store = grid.getEntityRegistry().getStore();
+		scheduler.sync(grid.getEntityRegistry(), this.number);
+		int dueCount = scheduler.drain(this.number);
+
+		if (this.keys.length < dueCount)
+			this.keys = new long[dueCount];
+
+		for (int i = 0; i < dueCount; i++) {
+			Bug<?> bug = scheduler.getDue(i);
+			int index = store != null
+					? store.getCell(bug.getEntityId())
+					: bug.getCell().getIndex();
+
+			this.keys[i] = ((long) index << 32) | i;
+		}
+
+		Arrays.sort(this.keys, 0, dueCount);
+		for (int i = 0; i < dueCount; i++) {
+			long key = this.keys[i];
+			addActor(scheduler.getDue((int) key), (int) (key >>> 32));
+		}
+	}
+
+	private void addActor(Bug<?> bug, int source) {
+		if (this.actorCount == this.actors.length) {
+			int capacity = this.actorCount * 2;
+			this.actors = Arrays.copyOf(this.actors, capacity);
+			this.sources = Arrays.copyOf(this.sources, capacity);
+			this.plannedAction = Arrays.copyOf(this.plannedAction, capacity);
+			this.plannedTarget = Arrays.copyOf(this.plannedTarget, capacity);
+			this.plannedBirth = Arrays.copyOf(this.plannedBirth, capacity);
+			this.grantedAction = Arrays.copyOf(this.grantedAction, capacity);
+			this.doomed = Arrays.copyOf(this.doomed, capacity);
+		}
+
+		this.actors[this.actorCount] = bug;
+		this.sources[this.actorCount] = source;
+		this.actorCount++;
+	}
+
+	/**
+	 * @return how many ticks were begun before this one
+	 */
+	public long getNumber() {
+		return this.number;
+	}
+
+	public int getActorCount() {
+		return this.actorCount;
+	}
+
+	public Bug<?> getActor(int actor) {
+		return this.actors[actor];
+	}
+
+	/**
+	 * @return the index of the cell the actor occupied when the tick began
+	 */
+	public int getSource(int actor) {
+		return this.sources[actor];
+	}
+
+	/**
+	 * Records an intent of an actor. Each actor holds at most one
+	 * {@code EAT}/{@code MOVE} claim; a later claim replaces the earlier one.
+	 *
+	 * @param actor  the actor making the claim
+	 * @param action the action it intends to take
+	 * @param target the index of the cell it claims
+	 */
+	public void claim(int actor, Action action, int target) {
+		if (target < 0 || action == Action.NONE)
+			return;
+
+		this.plannedAction[actor] = (byte) action.ordinal();
+		this.plannedTarget[actor] = target;
+	}
+
+	/**
+	 * Records that an actor means to breed this tick. The birth cell is picked
+	 * next to wherever the actor ends up once the moves are committed.
+	 */
+	public void claimBirth(int actor) {
+		this.plannedBirth[actor] = true;
+	}
+
+	/**
+	 * Settles every contested target. {@code EAT} claims are granted first and
+	 * doom their victims; {@code MOVE} claims are then granted to the first
+	 * claim of each target whose actor is not doomed.
+	 */
+	public void resolve() {
+		this.claimCount = 0;
+		for (int actor = 0; actor < this.actorCount; actor++)
+			if (this.plannedAction[actor] != Action.NONE.ordinal())
+				addClaim(pack(this.plannedTarget[actor], ACTIONS[this.plannedAction[actor]], actor));
+
+		Arrays.sort(this.claims, 0, this.claimCount);
+		grantEats(this.claims, 0, this.claimCount);
+		grantMoves(this.claims, 0, this.claimCount);
+	}
+
+	private void addClaim(long claim) {
+		if (this.claimCount == this.claims.length)
+			this.claims = Arrays.copyOf(this.claims, this.claimCount * 2);
+
+		this.claims[this.claimCount++] = claim;
+	}
+
+	/**
+	 * Grants the winning {@code EAT} claim of every target in a sorted range of
+	 * packed claims, and dooms the victims. Every claim on a target must be in
+	 * the range for the result to be correct.
+	 */
+	void grantEats(long[] sortedClaims, int from, int to) {
+		for (int i = from; i < to; i = nextGroup(sortedClaims, i, to)) {
+			long claim = sortedClaims[i];
+
+			if (actionOf(claim) == Action.EAT) {
+				int actor = actorOf(claim);
+				int victim = actorAt(targetOf(claim));
+
+				this.grantedAction[actor] = (byte) Action.EAT.ordinal();
+				if (victim != -1)
+					this.doomed[victim] = true;
+			}
+		}
+	}
+
+	/**
+	 * Grants the winning {@code MOVE} claim of every target in a sorted range
+	 * of packed claims, skipping doomed actors. Must run after every
+	 * {@code EAT} claim of the tick has been granted.
+	 */
+	void grantMoves(long[] sortedClaims, int from, int to) {
+		for (int i = from; i < to;) {
+			int end = nextGroup(sortedClaims, i, to);
+
+			if (actionOf(sortedClaims[i]) != Action.EAT) {
+				for (int j = i; j < end; j++) {
+					long claim = sortedClaims[j];
+					int actor = actorOf(claim);
+
+					if (this.doomed[actor])
+						continue;
+
+					this.grantedAction[actor] = (byte) Action.MOVE.ordinal();
+					break;
+				}
+			}
+			i = end;
+		}
+	}
+
+	private static int nextGroup(long[] sortedClaims, int from, int to) {
+		int target = targetOf(sortedClaims[from]);
+		int next = from + 1;
+
+		while (next < to && targetOf(sortedClaims[next]) == target)
+			next++;
+
+		return next;
+	}
+
+	/**
+	 * Packs a claim so that sorting groups claims by target, then orders them
+	 * by action priority and finally by actor (and so source) index
+	 */
+	static long pack(int target, Action action, int actor) {
+		return ((long) target << 32)
+				| ((long) action.ordinal() << 30)
+				| actor;
+	}
+
+	static int targetOf(long claim) {
+		return (int) (claim >>> 32);
+	}
+
+	private static Action actionOf(long claim) {
+		return ACTIONS[(int) (claim >>> 30) & 3];
+	}
+
+	private static int actorOf(long claim) {
+		return (int) claim & ((1 << 30) - 1);
+	}
+
+	/**
+	 * @return the action of the actor's planned {@code EAT}/{@code MOVE}
+	 *         claim, or {@code NONE}
+	 */
+	Action getPlannedAction(int actor) {
+		return ACTIONS[this.plannedAction[actor]];
+	}
+
+	/**
+	 * @return the actor whose source cell is {@code index}, or {@code -1}
+	 */
+	private int actorAt(int index) {
+		int found = Arrays.binarySearch(this.sources, 0, this.actorCount, index);
+		return found < 0
+				? -1
+				: found;
+	}
+
+	/**
+	 * @return {@code EAT} or {@code MOVE} if that claim of the actor was
+	 *         granted, otherwise {@code NONE}
+	 */
+	public Action getGrantedAction(int actor) {
+		return ACTIONS[this.grantedAction[actor]];
+	}
+
+	/**
+	 * @return the cell index of the actor's {@code EAT} or {@code MOVE} claim
+	 */
+	public int getTarget(int actor) {
+		return this.plannedTarget[actor];
+	}
+
+	/**
+	 * @return true if the actor means to breed and is not eaten this tick
+	 */
+	public boolean isBirthGranted(int actor) {
+		return this.plannedBirth[actor] && !this.doomed[actor];
+	}
+
+	/**
+	 * @return true if the actor is eaten this tick
+	 */
+	public boolean isDoomed(int actor) {
+		return this.doomed[actor];
+	}
+}
@@ -0,0 +1,289 @@
+/*
+ * @written 10/18/2026
+ */
+package classes.simulation;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+import classes.entity.CellGrid;
+import classes.settings.GameSettings.PartitionStrategy;
+import classes.simulation.TickBuffer.Action;
+import classes.util.RandomService;
+
+/**
+ * Runs the plan and resolve phases of a {@code TickBuffer} in parallel on a
+ * {@code ForkJoinPool}, by splitting the grid into fixed partitions.
+ *
+ * <p>
+ * The partition geometry only depends on the grid size and the configured
+ * strategy and partition size, never on the number of threads, so a tick
+ * resolves the same way on any machine. Bugs are planned by the partition
+ * that holds their cell.
+ *
+ * <p>
+ * Every neighbourhood has a radius of one cell, so a cell that is not on the
+ * outer ring of its partition can only be claimed by bugs of that same
+ * partition. Claims on those interior cells are resolved locally and in
+ * parallel. Claims on ring cells may come from neighbouring partitions; they
+ * are collected into a boundary set and resolved in a separate phase. The
+ * result is identical to {@link TickBuffer#resolve()}.
+ *
+ * <p>
+ * Each partition plans with its own random stream, derived from the tick
+ * number and the partition index, so a seeded run draws the same numbers
+ * whether the partitions run on many threads or, without a pool, one after
+ * another on the calling thread.
+ */
+public class TickPartitioner {
+
+	final private ForkJoinPool pool;
+	final private PartitionStrategy strategy;
+	final private int partitionSize;
+
+	private int width;
+	private int height;
+	private int blocksX;
+	private int partitionCount;
+
+	private int[] partitionStart = new int[0];
+	private int[] partitionActors = new int[64];
+
+	private long[][] interiorClaims = new long[0][];
+	private int[] interiorCounts = new int[0];
+	private long[][] boundaryClaims = new long[0][];
+	private int[] boundaryCounts = new int[0];
+	private long[] mergedBoundary = new long[128];
+	private int mergedCount = 0;
+
+	/**
+	 * @param pool          the pool to run partitions on, or {@code null} to
+	 *                      run them in order on the calling thread
+	 * @param strategy      how to split the grid
+	 * @param partitionSize cell units across each partition
+	 */
+	public TickPartitioner(ForkJoinPool pool, PartitionStrategy strategy, int partitionSize) {
+		if (strategy == PartitionStrategy.NONE)
+			throw new Error("A partitioner needs a partitioning strategy");
+		if (partitionSize < 3)
+			throw new Error("Partitions must be at least 3 cells across");
+
+		this.pool = pool;
+		this.strategy = strategy;
+		this.partitionSize = partitionSize;
+	}
+
+	/**
+	 * Sets up the partitions for a grid
+	 *
+	 * @return the number of partitions the grid is split into
+	 */
+	public int configure(CellGrid grid) {
+		this.width = grid.getSize().getX();
+		this.height = grid.getSize().getY();
+
+		int stripes = (this.height + this.partitionSize - 1) / this.partitionSize;
+		this.blocksX = this.strategy == PartitionStrategy.STRIPES
+				? 1
+				: (this.width + this.partitionSize - 1) / this.partitionSize;
+		this.partitionCount = stripes * this.blocksX;
+
+		if (this.interiorClaims.length != this.partitionCount) {
+			this.partitionStart = new int[this.partitionCount + 1];
+			this.interiorClaims = new long[this.partitionCount][64];
+			this.interiorCounts = new int[this.partitionCount];
+			this.boundaryClaims = new long[this.partitionCount][16];
+			this.boundaryCounts = new int[this.partitionCount];
+		}
+		return this.partitionCount;
+	}
+
+	private int partitionOf(int index) {
+		int y = index / this.width;
+		if (this.strategy == PartitionStrategy.STRIPES)
+			return y / this.partitionSize;
+
+		int x = index % this.width;
+		return (y / this.partitionSize) * this.blocksX + x / this.partitionSize;
+	}
+
+	/**
+	 * @return true if no bug outside of {@code partition} can claim the cell
+	 */
+	private boolean isInterior(int index, int partition) {
+		int x = index % this.width;
+		int y = index / this.width;
+		int localY = y % this.partitionSize;
+
+		if (localY == 0 || localY == this.partitionSize - 1 || y == this.height - 1)
+			return false;
+
+		if (this.strategy == PartitionStrategy.CHECKERBOARD) {
+			int localX = x % this.partitionSize;
+			if (localX == 0 || localX == this.partitionSize - 1 || x == this.width - 1)
+				return false;
+		}
+		return partitionOf(index) == partition;
+	}
+
+	/**
+	 * Plans every partition of a tick that {@link TickBuffer#begin} was already
+	 * called on
+	 */
+	public void plan(TickBuffer tick) {
+		bucketActors(tick);
+
+		forEachPartition(this.partitionCount, partition -> {
+			// Most partitions of a sparse grid are empty
+			if (this.partitionStart[partition] == this.partitionStart[partition + 1])
+				return;
+
+			RandomService.bind(RandomService.stream(tick.getNumber(), partition));
+			try {
+				for (int i = this.partitionStart[partition]; i < this.partitionStart[partition + 1]; i++) {
+					int actor = this.partitionActors[i];
+					tick.getActor(actor).plan(tick, actor);
+				}
+			} finally {
+				RandomService.unbind();
+			}
+		});
+	}
+
+	/**
+	 * Resolves a tick after {@link #plan}. Committing stays with the caller.
+	 */
+	public void resolve(TickBuffer tick) {
+		// Resolve the eats on the interior cells of each partition
+		forEachPartition(this.partitionCount, partition -> {
+			splitClaims(tick, partition);
+			Arrays.sort(this.interiorClaims[partition], 0, this.interiorCounts[partition]);
+			tick.grantEats(this.interiorClaims[partition], 0, this.interiorCounts[partition]);
+		});
+
+		// Eats on ring cells may doom bugs of any partition
+		mergeBoundaryClaims();
+		tick.grantEats(this.mergedBoundary, 0, this.mergedCount);
+
+		// With every victim known, settle moves everywhere. The extra index
+		// handles the boundary set alongside the partitions.
+		forEachPartition(this.partitionCount + 1, partition -> {
+			if (partition == this.partitionCount)
+				tick.grantMoves(this.mergedBoundary, 0, this.mergedCount);
+			else
+				tick.grantMoves(this.interiorClaims[partition], 0, this.interiorCounts[partition]);
+		});
+	}
+
+	/**
+	 * Groups the actors by partition with a counting sort, keeping cell index
+	 * order inside every partition
+	 */
+	private void bucketActors(TickBuffer tick) {
+		int actorCount = tick.getActorCount();
+		if (this.partitionActors.length < actorCount)
+			this.partitionActors = new int[actorCount];
+
+		Arrays.fill(this.partitionStart, 0);
+		for (int actor = 0; actor < actorCount; actor++)
+			this.partitionStart[partitionOf(tick.getSource(actor)) + 1]++;
+
+		for (int partition = 0; partition < this.partitionCount; partition++)
+			this.partitionStart[partition + 1] += this.partitionStart[partition];
+
+		int[] next = Arrays.copyOf(this.partitionStart, this.partitionCount);
+		for (int actor = 0; actor < actorCount; actor++)
+			this.partitionActors[next[partitionOf(tick.getSource(actor))]++] = actor;
+	}
+
+	private void splitClaims(TickBuffer tick, int partition) {
+		this.interiorCounts[partition] = 0;
+		this.boundaryCounts[partition] = 0;
+
+		for (int i = this.partitionStart[partition]; i < this.partitionStart[partition + 1]; i++) {
+			int actor = this.partitionActors[i];
+			Action action = tick.getPlannedAction(actor);
+
+			if (action != Action.NONE)
+				addClaim(partition, TickBuffer.pack(tick.getTarget(actor), action, actor));
+		}
+	}
+
+	private void addClaim(int partition, long claim) {
+		if (isInterior(TickBuffer.targetOf(claim), partition)) {
+			int count = this.interiorCounts[partition]++;
+			if (count == this.interiorClaims[partition].length)
+				this.interiorClaims[partition] = Arrays.copyOf(this.interiorClaims[partition], count * 2);
+
+			this.interiorClaims[partition][count] = claim;
+		} else {
+			int count = this.boundaryCounts[partition]++;
+			if (count == this.boundaryClaims[partition].length)
+				this.boundaryClaims[partition] = Arrays.copyOf(this.boundaryClaims[partition], count * 2);
+
+			this.boundaryClaims[partition][count] = claim;
+		}
+	}
+
+	private void mergeBoundaryClaims() {
+		int total = 0;
+		for (int count : this.boundaryCounts)
+			total += count;
+
+		if (this.mergedBoundary.length < total)
+			this.mergedBoundary = new long[total];
+
+		this.mergedCount = 0;
+		for (int partition = 0; partition < this.partitionCount; partition++) {
+			System.arraycopy(
+					this.boundaryClaims[partition], 0,
+					this.mergedBoundary, this.mergedCount,
+					this.boundaryCounts[partition]);
+			this.mergedCount += this.boundaryCounts[partition];
+		}
+
+		Arrays.sort(this.mergedBoundary, 0, this.mergedCount);
+	}
+
+	private void forEachPartition(int count, IntConsumer body) {
+		if (this.pool == null) {
+			for (int partition = 0; partition < count; partition++)
+				body.accept(partition);
+			return;
+		}
+		this.pool.invoke(new PartitionTask(0, count, body));
+	}
+
+	/**
+	 * Splits a range of partitions in half until single partitions are left
+	 */
+	private static class PartitionTask extends RecursiveAction {
+
+		final private static long serialVersionUID = 1L;
+
+		final private int from;
+		final private int to;
+		final private IntConsumer body;
+
+		public PartitionTask(int from, int to, IntConsumer body) {
+			this.from = from;
+			this.to = to;
+			this.body = body;
+		}
+
+		@Override
+		protected void compute() {
+			if (this.to - this.from == 1) {
+				this.body.accept(this.from);
+				return;
+			}
+
+			int middle = (this.from + this.to) >>> 1;
+			invokeAll(
+					new PartitionTask(this.from, middle, this.body),
+					new PartitionTask(middle, this.to, this.body));
+		}
+	}
+}
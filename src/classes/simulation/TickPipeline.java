@@ -0,0 +1,263 @@
+/*
+ * @written 10/18/2026
+ */
+package classes.simulation;
+
+import classes.abstracts.Bug;
+import classes.abstracts.Entity;
+import classes.entity.CellGrid;
+import classes.entity.CellGrid.Cell;
+import classes.simulation.TickBuffer.Action;
+import classes.util.RandomService;
+
+/**
+ * Runs a movement tick as a series of whole-population passes, each one a
+ * single loop over every actor of the tick.
+ *
+ * <ul>
+ * <li>{@code INTENT} - <i>snapshots the bugs and has each of them plan its
+ * claims</i></li>
+ * <li>{@code RESOLUTION} - <i>settles every contested target</i></li>
+ * <li>{@code PREDATION} - <i>removes eaten bugs and moves their eaters in</i></li>
+ * <li>{@code MOVEMENT} - <i>moves every bug granted a {@code MOVE}</i></li>
+ * <li>{@code BIRTHS} - <i>spawns the offspring of every surviving bug that
+ * meant to breed, next to the cell it moved to</i></li>
+ * <li>{@code DEATHS} - <i>ages every surviving bug and removes the ones that
+ * die of it</i></li>
+ * </ul>
+ *
+ * <p>
+ * Resolution hands out every target cell at most once, so predation and
+ * movement never touch the same cell twice. Births come after them and fill
+ * cells that are still free, in actor order, so the outcome stays the same
+ * for every partitioning. The first two passes run on a
+ * {@code TickPartitioner} when one is given. The time spent in each pass is
+ * recorded, both for the last tick and in total.
+ *
+ * <p>
+ * Births draw their bugs from an {@code EntityPool}, and bugs that die are
+ * handed back to it once the tick is over.
+ *
+ * <p>
+ * With an {@code ActionScheduler}, only the bugs due on a tick take part in
+ * it. Each of them is rescheduled after its {@link Bug#getActionInterval()
+ * action interval}, and newborns act on the next tick.
+ */
+public class TickPipeline {
+
+	public enum Phase {
+		INTENT,
+		RESOLUTION,
+		PREDATION,
+		MOVEMENT,
+		BIRTHS,
+		DEATHS,
+	}
+
+	/*
+	 * Partitions plan with the streams numbered from 0 up
+	 */
+	final private static int COMMIT_STREAM = -1;
+
+	final private TickBuffer tick = new TickBuffer();
+	final private TickPartitioner partitioner;
+	final private EntityPool pool;
+	final private ActionScheduler scheduler;
+
+	final private long[] lastNanos = new long[Phase.values().length];
+	final private long[] totalNanos = new long[Phase.values().length];
+	private long tickCount = 0;
+	private long phaseStart;
+
+	/**
+	 * @param partitioner runs intent and resolution across partitions, or
+	 *                    {@code null} to run them as a single stream
+	 * @param pool        recycles the bugs of births and deaths
+	 * @param scheduler   picks the bugs that act on each tick, or
+	 *                    {@code null} to have every bug act every tick
+	 */
+	public TickPipeline(TickPartitioner partitioner, EntityPool pool, ActionScheduler scheduler) {
+		this.partitioner = partitioner;
+		this.pool = pool;
+		this.scheduler = scheduler;
+	}
+
+	/**
+	 * Runs every phase of one tick on {@code grid}
+	 */
+	public void run(CellGrid grid) {
+		this.phaseStart = System.nanoTime();
+
+		intent(grid);
+		endPhase(Phase.INTENT);
+
+		if (this.partitioner != null)
+			this.partitioner.resolve(this.tick);
+		else
+			this.tick.resolve();
+		endPhase(Phase.RESOLUTION);
+
+		// Writing to the grid is not thread-safe, so the remaining passes run
+		// on this thread
+		RandomService.bind(RandomService.stream(this.tick.getNumber(), COMMIT_STREAM));
+		try {
+			predation(grid);
+			endPhase(Phase.PREDATION);
+
+			movement(grid);
+			endPhase(Phase.MOVEMENT);
+
+			births(grid);
+			endPhase(Phase.BIRTHS);
+
+			deaths();
+			reschedule();
+			this.pool.flush();
+			endPhase(Phase.DEATHS);
+		} finally {
+			RandomService.unbind();
+		}
+
+		this.tickCount++;
+	}
+
+	private void endPhase(Phase phase) {
+		long now = System.nanoTime();
+		long elapsed = now - this.phaseStart;
+
+		this.lastNanos[phase.ordinal()] = elapsed;
+		this.totalNanos[phase.ordinal()] += elapsed;
+		this.phaseStart = now;
+	}
+
+	private void intent(CellGrid grid) {
+		this.tick.begin(grid, this.scheduler);
+
+		if (this.partitioner != null) {
+			this.partitioner.configure(grid);
+			this.partitioner.plan(this.tick);
+			return;
+		}
+
+		RandomService.bind(RandomService.stream(this.tick.getNumber(), 0));
+		try {
+			for (int actor = 0; actor < this.tick.getActorCount(); actor++)
+				this.tick.getActor(actor).plan(this.tick, actor);
+		} finally {
+			RandomService.unbind();
+		}
+	}
+
+	private void predation(CellGrid grid) {
+		for (int actor = 0; actor < this.tick.getActorCount(); actor++) {
+			if (this.tick.isDoomed(actor) || this.tick.getGrantedAction(actor) != Action.EAT)
+				continue;
+
+			Bug<?> bug = this.tick.getActor(actor);
+			Cell preyCell = grid.getCellAt(this.tick.getTarget(actor));
+			if (preyCell.hasOccupant()) {
+				Entity<?> prey = preyCell.removeOccupant();
+				if (prey instanceof Bug)
+					this.pool.releaseLater((Bug<?>) prey);
+			}
+
+			bug.moveTo(preyCell);
+			bug.onFed();
+		}
+	}
+
+	private void movement(CellGrid grid) {
+		for (int actor = 0; actor < this.tick.getActorCount(); actor++)
+			if (this.tick.getGrantedAction(actor) == Action.MOVE)
+				this.tick.getActor(actor).moveTo(grid.getCellAt(this.tick.getTarget(actor)));
+	}
+
+	private void births(CellGrid grid) {
+		for (int actor = 0; actor < this.tick.getActorCount(); actor++) {
+			if (!this.tick.isBirthGranted(actor))
+				continue;
+
+			// Breed next to the cell the parent moved to, like a bug that
+			// breeds right after its move
+			Bug<?> parent = this.tick.getActor(actor);
+			int target = grid.getAvailableIndexAdjacentTo(
+					parent.getCell(),
+					grid.getNeighborhood(parent.getVariant()),
+					-1);
+
+			if (target == -1)
+				continue;
+
+			Bug<?> offspring = this.pool.acquire(parent);
+			grid.getCellAt(target).setOccupant(offspring);
+
+			if (this.scheduler != null)
+				this.scheduler.adopt(offspring, this.tick.getNumber() + 1);
+		}
+	}
+
+	private void deaths() {
+		for (int actor = 0; actor < this.tick.getActorCount(); actor++) {
+			if (this.tick.isDoomed(actor))
+				continue;
+
+			Bug<?> bug = this.tick.getActor(actor);
+			if (bug.age()) {
+				bug.removeFromCell();
+				this.pool.releaseLater(bug);
+			}
+		}
+	}
+
+	private void reschedule() {
+		if (this.scheduler == null)
+			return;
+
+		for (int actor = 0; actor < this.tick.getActorCount(); actor++) {
+			Bug<?> bug = this.tick.getActor(actor);
+			if (!this.tick.isDoomed(actor) && bug.getEntityId() != -1)
+				this.scheduler.schedule(bug, this.tick.getNumber() + bug.getActionInterval());
+		}
+	}
+
+	/**
+	 * @return the tick buffer of the most recent tick
+	 */
+	public TickBuffer getTick() {
+		return this.tick;
+	}
+
+	public EntityPool getPool() {
+		return this.pool;
+	}
+
+	/**
+	 * @return how many ticks have run
+	 */
+	public long getTickCount() {
+		return this.tickCount;
+	}
+
+	/**
+	 * @return the nanoseconds {@code phase} took in the last tick
+	 */
+	public long getLastNanos(Phase phase) {
+		return this.lastNanos[phase.ordinal()];
+	}
+
+	/**
+	 * @return the nanoseconds spent in {@code phase} over every tick
+	 */
+	public long getTotalNanos(Phase phase) {
+		return this.totalNanos[phase.ordinal()];
+	}
+
+	/**
+	 * @return the average milliseconds {@code phase} took per tick
+	 */
+	public double getAverageMillis(Phase phase) {
+		return this.tickCount == 0
+				? 0
+				: getTotalNanos(phase) / 1e6 / this.tickCount;
+	}
+}
@@ -0,0 +1,146 @@
+/*
+ * @written 10/18/2026
+ */
+package classes.util;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Paces a loop at a fixed timestep with an accumulator.
+ *
+ * <p>
+ * Real time that passes is added to the accumulator, and each call to
+ * {@link #advance()} hands out one step per whole timestep that piled up, so
+ * a loop that falls behind catches up instead of drifting. Catching up is
+ * capped at {@code maxCatchUpSteps} per call; anything further behind than
+ * that is dropped and counted rather than run in one long burst.
+ *
+ * <p>
+ * {@link #waitForNextStep()} parks the thread until just before the next step
+ * is due and spins for the last {@link #SPIN_NANOS} only, which is far more
+ * precise than sleeping in whole milliseconds while keeping an idle loop at
+ * close to zero CPU.
+ */
+public class FixedTimestep {
+
+	/*
+	 * Parking can overshoot by the scheduler's timer slack, so the final
+	 * stretch before a deadline is spun instead
+	 */
+	final public static long SPIN_NANOS = 200_000;
+
+	final private long stepNanos;
+	final private int maxCatchUpSteps;
+
+	private long accumulator = 0;
+	private long lastTick = -1;
+	private long droppedSteps = 0;
+
+	/**
+	 * @param stepNanos       the length of a step, or {@code 0} to step as
+	 *                        often as the loop asks
+	 * @param maxCatchUpSteps the most steps a single {@link #advance()} hands
+	 *                        out
+	 */
+	public FixedTimestep(long stepNanos, int maxCatchUpSteps) {
+		if (stepNanos < 0)
+			throw new Error("Timestep cannot be negative");
+		if (maxCatchUpSteps < 1)
+			throw new Error("A timestep must allow at least one step per advance");
+
+		this.stepNanos = stepNanos;
+		this.maxCatchUpSteps = maxCatchUpSteps;
+	}
+
+	/**
+	 * Adds the time since the last call to the accumulator. The first call
+	 * after construction or {@link #reset()} always yields one step.
+	 *
+	 * @return the number of steps to run now
+	 */
+	public int advance() {
+		long now = Time.tick();
+
+		if (this.lastTick < 0) {
+			this.lastTick = now;
+			this.accumulator = this.stepNanos;
+		}
+
+		this.accumulator += now - this.lastTick;
+		this.lastTick = now;
+
+		if (this.stepNanos == 0) {
+			this.accumulator = 0;
+			return 1;
+		}
+
+		int steps = (int) Math.min(this.accumulator / this.stepNanos, this.maxCatchUpSteps);
+		this.accumulator -= steps * this.stepNanos;
+
+		if (this.accumulator >= this.stepNanos) {
+			this.droppedSteps += this.accumulator / this.stepNanos;
+			this.accumulator %= this.stepNanos;
+		}
+		return steps;
+	}
+
+	/**
+	 * @return the nanoseconds left until the next step is due, or {@code 0}
+	 *         if it already is
+	 */
+	public long nanosUntilNextStep() {
+		if (this.lastTick < 0)
+			return 0;
+
+		long elapsed = Time.tick() - this.lastTick;
+		return Math.max(0, this.stepNanos - this.accumulator - elapsed);
+	}
+
+	/**
+	 * Blocks the calling thread until the next step is due
+	 */
+	public void waitForNextStep() {
+		waitNanos(nanosUntilNextStep());
+	}
+
+	/**
+	 * Forgets the accumulated time, for example after the loop was paused, so
+	 * that the pause is not caught up on
+	 */
+	public void reset() {
+		this.accumulator = 0;
+		this.lastTick = -1;
+	}
+
+	/**
+	 * @return how many steps were dropped because the loop fell too far
+	 *         behind
+	 */
+	public long getDroppedSteps() {
+		return this.droppedSteps;
+	}
+
+	public long getStepNanos() {
+		return this.stepNanos;
+	}
+
+	/**
+	 * Blocks for {@code nanos} by parking, then spinning through the last
+	 * {@link #SPIN_NANOS}. Returns early if the thread is interrupted.
+	 */
+	public static void waitNanos(long nanos) {
+		long deadline = Time.tick() + nanos;
+		long remaining = nanos;
+
+		while (remaining > SPIN_NANOS) {
+			LockSupport.parkNanos(remaining - SPIN_NANOS);
+			if (Thread.currentThread().isInterrupted())
+				return;
+
+			remaining = deadline - Time.tick();
+		}
+
+		while (Time.tick() < deadline)
+			Thread.onSpinWait();
+	}
+}
@@ -41,13 +41,15 @@ public class Math2 {
 	}
 
 	/**
-	 * Get a random integer from {@code 0} to a specified {@code upperBound}
+	 * Get a random integer from {@code 0} to a specified {@code upperBound}.
+	 * Draws from the stream {@link RandomService} has bound to the calling
+	 * thread, so results are reproducible from the game seed.
 	 * 
 	 * @param upperBound the specified {@code upperBound}
 	 * @return a random integer from {@code 0} to the specified {@code upperBound}
 	 * @see #randInt(int)
 	 */
 	public static int randInt(int upperBound) {
-		return (int) (Math.random() * upperBound);
+		return RandomService.nextInt(upperBound);
 	}
 }
@@ -0,0 +1,111 @@
+/*
+ * @written 10/18/2026
+ */
+package classes.util;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * The single source of randomness for the simulation.
+ *
+ * <p>
+ * Everything is derived from one seed. Work that may run on another thread
+ * binds its own {@code SplittableRandom} stream, derived purely from the seed,
+ * the tick number and a stream id such as a partition index, so the numbers a
+ * piece of work draws never depend on which thread runs it or on what other
+ * threads draw. A given seed therefore replays the same run at any thread
+ * count. Draws made while no stream is bound come from the main stream, which
+ * should only be used by the game thread.
+ */
+public class RandomService {
+
+	final private static ThreadLocal<SplittableRandom> bound = new ThreadLocal<>();
+
+	private static long seed = System.nanoTime();
+	private static SplittableRandom main = new SplittableRandom(seed);
+
+	/**
+	 * Reseeds the service and restarts the main stream
+	 *
+	 * @param seed the seed every stream is derived from
+	 */
+	public static void setSeed(long seed) {
+		RandomService.seed = seed;
+		RandomService.main = new SplittableRandom(seed);
+	}
+
+	public static long getSeed() {
+		return seed;
+	}
+
+	/**
+	 * Derives an independent stream for one unit of work. The same arguments
+	 * always give the same sequence under the same seed.
+	 *
+	 * @param tick   the tick the work belongs to
+	 * @param stream an id that tells the units of work of a tick apart
+	 * @return a new stream
+	 */
+	public static SplittableRandom stream(long tick, int stream) {
+		return new SplittableRandom(mix(mix(seed ^ mix(tick)) + stream));
+	}
+
+	/**
+	 * Binds a stream to the calling thread, so that every draw it makes comes
+	 * from {@code random} until {@link #unbind()} is called
+	 */
+	public static void bind(SplittableRandom random) {
+		bound.set(random);
+	}
+
+	public static void unbind() {
+		bound.remove();
+	}
+
+	/**
+	 * @return the stream bound to the calling thread, or the main stream
+	 */
+	public static SplittableRandom current() {
+		SplittableRandom random = bound.get();
+		return random == null
+				? main
+				: random;
+	}
+
+	/**
+	 * @param upperBound the exclusive upper bound
+	 * @return a random integer from {@code 0} to {@code upperBound}, or
+	 *         {@code 0} if {@code upperBound} is not positive
+	 */
+	public static int nextInt(int upperBound) {
+		return upperBound <= 0
+				? 0
+				: current().nextInt(upperBound);
+	}
+
+	/**
+	 * Moves a uniformly random selection of elements to the front of a list
+	 * with a partial Fisher-Yates shuffle, in O({@code count})
+	 *
+	 * @param list  the list to shuffle in place
+	 * @param count how many leading positions to fill
+	 */
+	public static <T> void shuffle(List<T> list, int count) {
+		int size = list.size();
+		for (int i = 0; i < Math.min(count, size - 1); i++) {
+			int j = i + nextInt(size - i);
+			list.set(i, list.set(j, list.get(i)));
+		}
+	}
+
+	/**
+	 * The SplitMix64 finalizer, which spreads every input bit across the
+	 * whole output
+	 */
+	private static long mix(long z) {
+		z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+		z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+		return z ^ (z >>> 31);
+	}
+}
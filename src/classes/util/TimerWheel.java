@@ -0,0 +1,254 @@
+/*
+ * @written 10/18/2026
+ */
+package classes.util;
+
+import java.util.Arrays;
+
+/**
+ * A hierarchical timer wheel that holds items until a deadline on the
+ * {@link Time#tick()} clock, so that waiting items cost nothing until they are
+ * due.
+ *
+ * <p>
+ * Time is counted in wheel ticks of {@code 2^TICK_SHIFT} nanoseconds, about a
+ * millisecond. There are {@link #LEVELS} wheels of {@link #SLOTS} slots each;
+ * a slot on level {@code l} spans {@code SLOTS^l} ticks, so level 0 holds
+ * everything due within the next {@code SLOTS} ticks and each level above it
+ * reaches {@code SLOTS} times further. Whenever a lower wheel wraps around,
+ * the next slot of the wheel above is emptied into the lower levels. Scheduling
+ * is constant time and every item is moved at most once per level.
+ *
+ * <p>
+ * Items are never early. Deadlines are rounded up to whole ticks, and items
+ * past the reach of the top wheel are parked in its furthest slot and
+ * scheduled again from there. Every deadline is finite, so every item is
+ * eventually handed out.
+ *
+ * <p>
+ * Nothing is ever removed from the wheel. Every entry carries a stamp from
+ * its owner, who hands it back with the item when it is due and can drop it
+ * then if it no longer matches.
+ */
+public class TimerWheel<T> {
+
+	final public static int TICK_SHIFT = 20;
+	final public static int SLOT_BITS = 6;
+	final public static int SLOTS = 1 << SLOT_BITS;
+	final public static int LEVELS = 5;
+
+	final private static int SLOT_MASK = SLOTS - 1;
+	final private static long MAX_DELAY = (1L << (SLOT_BITS * LEVELS)) - 1;
+
+	final private Object[][] items = new Object[LEVELS * SLOTS][];
+	final private long[][] deadlines = new long[LEVELS * SLOTS][];
+	final private int[][] stamps = new int[LEVELS * SLOTS][];
+	final private int[] counts = new int[LEVELS * SLOTS];
+
+	private Object[] due = new Object[16];
+	private int[] dueStamps = new int[16];
+	private int dueCount = 0;
+	private int handedOut = 0;
+
+	private Object[] cascading = new Object[16];
+	private long[] cascadingDeadlines = new long[16];
+	private int[] cascadingStamps = new int[16];
+
+	private long currentTick;
+	final private int[] levelSizes = new int[LEVELS];
+
+	public TimerWheel() {
+		this.currentTick = Time.tick() >> TICK_SHIFT;
+	}
+
+	/**
+	 * Holds {@code item} until {@code deadline}. An item that is already due
+	 * is handed out by the next {@link #advance}.
+	 *
+	 * @param item     the item to hold
+	 * @param deadline the {@link Time#tick()} time the item is due at
+	 * @param stamp    a stamp handed back along with the item
+	 * @throws Error if the deadline is {@code Long.MAX_VALUE}, which would
+	 *               never come due
+	 */
+	public void schedule(T item, long deadline, int stamp) {
+		if (deadline == Long.MAX_VALUE)
+			throw new Error("A timer wheel deadline cannot be infinite");
+
+		long dueTick = (deadline >> TICK_SHIFT)
+				+ ((deadline & ((1L << TICK_SHIFT) - 1)) == 0 ? 0 : 1);
+		long delay = dueTick - this.currentTick;
+
+		if (delay <= 0) {
+			addDue(item, stamp);
+			return;
+		}
+
+		// Park anything out of reach in the furthest slot of the top wheel
+		if (delay > MAX_DELAY) {
+			delay = MAX_DELAY;
+			dueTick = this.currentTick + MAX_DELAY;
+		}
+
+		int level = 0;
+		while (delay >= 1L << (SLOT_BITS * (level + 1)))
+			level++;
+
+		int slot = level * SLOTS + (int) ((dueTick >> (SLOT_BITS * level)) & SLOT_MASK);
+		add(slot, item, deadline, stamp);
+		this.levelSizes[level]++;
+	}
+
+	private void add(int slot, Object item, long deadline, int stamp) {
+		int count = this.counts[slot]++;
+
+		if (this.items[slot] == null) {
+			this.items[slot] = new Object[4];
+			this.deadlines[slot] = new long[4];
+			this.stamps[slot] = new int[4];
+		} else if (count == this.items[slot].length) {
+			this.items[slot] = Arrays.copyOf(this.items[slot], count * 2);
+			this.deadlines[slot] = Arrays.copyOf(this.deadlines[slot], count * 2);
+			this.stamps[slot] = Arrays.copyOf(this.stamps[slot], count * 2);
+		}
+
+		this.items[slot][count] = item;
+		this.deadlines[slot][count] = deadline;
+		this.stamps[slot][count] = stamp;
+	}
+
+	/**
+	 * Turns the wheels forward to {@code now}, moving every item that came due
+	 * into the list read by {@link #getDue} and {@link #getDueStamp}. Items
+	 * handed out by the previous call are forgotten.
+	 *
+	 * @return the number of items due
+	 */
+	public int advance(long now) {
+		long targetTick = now >> TICK_SHIFT;
+		int carried = this.dueCount - this.handedOut;
+
+		// Items scheduled as already due since the last call stay in the list
+		System.arraycopy(this.due, this.handedOut, this.due, 0, carried);
+		System.arraycopy(this.dueStamps, this.handedOut, this.dueStamps, 0, carried);
+		Arrays.fill(this.due, carried, this.dueCount, null);
+		this.dueCount = carried;
+
+		while (this.currentTick < targetTick) {
+			// While the lowest wheels are empty, nothing can come due before
+			// the next of them wraps around, so skip straight to that tick
+			int empty = 0;
+			while (empty < LEVELS && this.levelSizes[empty] == 0)
+				empty++;
+
+			if (empty > 0) {
+				long skipTo = empty == LEVELS
+						? targetTick
+						: this.currentTick | ((1L << (SLOT_BITS * empty)) - 1);
+
+				if (skipTo >= targetTick) {
+					this.currentTick = targetTick;
+					break;
+				}
+				this.currentTick = skipTo;
+			}
+
+			this.currentTick++;
+
+			int index = (int) (this.currentTick & SLOT_MASK);
+			for (int level = 1; index == 0 && level < LEVELS; level++) {
+				index = (int) ((this.currentTick >> (SLOT_BITS * level)) & SLOT_MASK);
+				cascade(level * SLOTS + index);
+			}
+
+			collect((int) (this.currentTick & SLOT_MASK));
+		}
+
+		this.handedOut = this.dueCount;
+		return this.dueCount;
+	}
+
+	/**
+	 * Empties a slot of an upper wheel into the wheels below it
+	 */
+	@SuppressWarnings("unchecked")
+	private void cascade(int slot) {
+		int count = this.counts[slot];
+		if (count == 0)
+			return;
+
+		// Move the entries aside first, since rescheduling an entry parked out
+		// of reach may land it in this same slot
+		if (count > this.cascading.length) {
+			this.cascading = new Object[this.items[slot].length];
+			this.cascadingDeadlines = new long[this.items[slot].length];
+			this.cascadingStamps = new int[this.items[slot].length];
+		}
+		System.arraycopy(this.items[slot], 0, this.cascading, 0, count);
+		System.arraycopy(this.deadlines[slot], 0, this.cascadingDeadlines, 0, count);
+		System.arraycopy(this.stamps[slot], 0, this.cascadingStamps, 0, count);
+
+		Arrays.fill(this.items[slot], 0, count, null);
+		this.counts[slot] = 0;
+		this.levelSizes[slot / SLOTS] -= count;
+
+		for (int i = 0; i < count; i++) {
+			schedule((T) this.cascading[i], this.cascadingDeadlines[i], this.cascadingStamps[i]);
+			this.cascading[i] = null;
+		}
+	}
+
+	private void collect(int slot) {
+		int count = this.counts[slot];
+		if (count == 0)
+			return;
+
+		Object[] entries = this.items[slot];
+		for (int i = 0; i < count; i++)
+			addDue(entries[i], this.stamps[slot][i]);
+
+		Arrays.fill(entries, 0, count, null);
+		this.counts[slot] = 0;
+		this.levelSizes[0] -= count;
+	}
+
+	private void addDue(Object item, int stamp) {
+		if (this.dueCount == this.due.length) {
+			this.due = Arrays.copyOf(this.due, this.dueCount * 2);
+			this.dueStamps = Arrays.copyOf(this.dueStamps, this.dueCount * 2);
+		}
+
+		this.due[this.dueCount] = item;
+		this.dueStamps[this.dueCount] = stamp;
+		this.dueCount++;
+	}
+
+	/**
+	 * @param i a position from {@code 0} to the last result of
+	 *          {@link #advance} minus one
+	 * @return an item that came due
+	 */
+	@SuppressWarnings("unchecked")
+	public T getDue(int i) {
+		return (T) this.due[i];
+	}
+
+	/**
+	 * @return the stamp the item at position {@code i} was scheduled with
+	 */
+	public int getDueStamp(int i) {
+		return this.dueStamps[i];
+	}
+
+	/**
+	 * @return the number of items held in the wheels, not counting items
+	 *         waiting to be handed out
+	 */
+	public int size() {
+		int size = 0;
+		for (int levelSize : this.levelSizes)
+			size += levelSize;
+
+		return size;
+	}
+}
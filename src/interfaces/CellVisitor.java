@@ -0,0 +1,7 @@
+package interfaces;
+
+import classes.entity.CellGrid.Cell;
+
+public interface CellVisitor {
+	void visit(Cell cell);
+}